@@ -0,0 +1,103 @@
+package org.wattpad4j.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+
+/**
+ * Adaptive sizing of the pages fetched by the methods of a {@link WattpadApi} that do not take a limit, to fetch all
+ * the items of a user in as few round-trips as possible.
+ * <p>
+ * The first page of a kind of items is a probe requesting {@code maxLimit} items. When Wattpad returns fewer items
+ * while there are more, the amount it returned is the largest limit it honours, which is remembered and requested
+ * from then on. The size of an item is estimated from the decoded size of the response body of the probe as well, and
+ * the limit is lowered so that a page is not expected to exceed {@code maxPageBytes}. The pages after the first one of
+ * a pager are sized with what was learned from it.
+ * <p>
+ * What is learned is shared by all the pagers using this AdaptivePaging; it is safe to share between threads.
+ */
+public class AdaptivePaging {
+
+	/**
+	 * Limit requested when nothing was learned yet.
+	 */
+	@Getter
+	private final int maxLimit;
+
+	/**
+	 * Maximum expected size of a page, after decompression.
+	 */
+	@Getter
+	private final long maxPageBytes;
+
+	// largest limit honoured by Wattpad per type of page
+	private final Map<Class<?>, Integer> honouredLimits = new ConcurrentHashMap<>();
+	// estimated size of an item per fields query parameter
+	private final Map<String, Integer> itemBytes = new ConcurrentHashMap<>();
+
+	/**
+	 * Create an AdaptivePaging probing with a limit of {@value WattpadConstants#DEFAULT_PAGING_MAX_LIMIT}, keeping
+	 * pages under {@value WattpadConstants#DEFAULT_PAGING_MAX_PAGE_BYTES} bytes.
+	 */
+	public AdaptivePaging() {
+		this(WattpadConstants.DEFAULT_PAGING_MAX_LIMIT, WattpadConstants.DEFAULT_PAGING_MAX_PAGE_BYTES);
+	}
+
+	/**
+	 * Create an AdaptivePaging.
+	 *
+	 * @param maxLimit     limit requested when nothing was learned yet.
+	 * @param maxPageBytes maximum expected size of a page, after decompression.
+	 */
+	public AdaptivePaging(final int maxLimit, final long maxPageBytes) {
+		if (maxLimit <= 0 || maxPageBytes <= 0) {
+			throw new IllegalArgumentException("maxLimit and maxPageBytes must be positive");
+		}
+		this.maxLimit = maxLimit;
+		this.maxPageBytes = maxPageBytes;
+	}
+
+	/**
+	 * Returns the largest limit Wattpad was found to honour for a type of page.
+	 *
+	 * @param type the class of the page, like {@code WattpadStories.class}.
+	 * @return the largest honoured limit, or null if Wattpad honoured every limit requested so far.
+	 */
+	public Integer getHonouredLimit(final Class<?> type) {
+		return this.honouredLimits.get(type);
+	}
+
+	/**
+	 * Returns the limit to request for a page.
+	 *
+	 * @param type   the class of the page.
+	 * @param fields the fields query parameter of the page.
+	 * @return the limit to request.
+	 */
+	int limit(final Class<?> type, final String fields) {
+		final int limit = Math.min(this.maxLimit, this.honouredLimits.getOrDefault(type, this.maxLimit));
+		final Integer bytes = this.itemBytes.get(fields);
+		return bytes == null ? limit : Math.clamp(this.maxPageBytes / bytes, 1, limit);
+	}
+
+	/**
+	 * Learns from a page that was received.
+	 *
+	 * @param type      the class of the page.
+	 * @param fields    the fields query parameter of the page.
+	 * @param requested the limit that was requested.
+	 * @param received  the amount of items that were received.
+	 * @param more      whether there are more items after the page.
+	 * @param pageBytes the estimated size of the page, or 0 if unknown.
+	 */
+	void learn(final Class<?> type, final String fields, final int requested, final int received, final boolean more,
+	        final long pageBytes) {
+		if (received > 0 && received < requested && more) {
+			this.honouredLimits.merge(type, received, Math::min);
+		}
+		if (received > 0 && pageBytes > 0) {
+			this.itemBytes.put(fields, (int) Math.max(1, pageBytes / received));
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package org.wattpad4j.api;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * The outcome of a bulk call: the results per key that succeeded, and the failure per key that did not. Both keep the
+ * order in which the keys were requested.
+ *
+ * @param <T> the wattpad4j type
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BulkResult<T> {
+
+	private final Map<String, T> results;
+	private final Map<String, WattpadApiException> failures;
+
+	/**
+	 * Returns whether every key of the bulk call succeeded.
+	 *
+	 * @return true if there are no failures, otherwise returns false.
+	 */
+	public boolean isComplete() {
+		return this.failures.isEmpty();
+	}
+}
@@ -0,0 +1,285 @@
+package org.wattpad4j.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+import lombok.Getter;
+
+/**
+ * A circuit breaker around the calls of a {@link WattpadApi}, so that calls fail fast while Wattpad is degraded instead
+ * of waiting for a timeout.
+ * <p>
+ * While {@link State#CLOSED} every call goes through, and its outcome is recorded in a sliding window of the most
+ * recent calls. A call fails when no response is received, or when the response is a server error or
+ * {@code 429 Too Many Requests}; other responses, like a user that does not exist, count as successful. When the
+ * failure rate or slow-call rate of the window reaches its threshold the circuit goes {@link State#OPEN}, and every
+ * call is rejected with a {@link CircuitBreakerOpenException}. After the open duration the circuit goes
+ * {@link State#HALF_OPEN} and lets a few trial calls through: it closes again when they all succeed, and opens again
+ * as soon as one fails.
+ * <p>
+ * State transitions can be observed by adding a {@link Listener}.
+ */
+public class CircuitBreaker {
+
+	/**
+	 * The state of a CircuitBreaker.
+	 */
+	public enum State {
+		/**
+		 * All calls go through.
+		 */
+		CLOSED,
+		/**
+		 * All calls are rejected.
+		 */
+		OPEN,
+		/**
+		 * A limited amount of trial calls go through.
+		 */
+		HALF_OPEN,
+	}
+
+	/**
+	 * Listener of the state transitions of a CircuitBreaker.
+	 */
+	@FunctionalInterface
+	public interface Listener {
+
+		/**
+		 * Called after the CircuitBreaker changed its state, on the thread that caused the transition.
+		 *
+		 * @param from the previous state.
+		 * @param to   the new state.
+		 */
+		void onStateChange(State from, State to);
+	}
+
+	@Getter
+	private final CircuitBreakerConfig config;
+	private final LongSupplier nanoTime;
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	// sliding window of the outcomes of the most recent calls
+	private final boolean[] failed;
+	private final boolean[] slow;
+	private int next;
+	private int calls;
+	private int failures;
+	private int slowCalls;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int trialsStarted;
+	private int trialsSucceeded;
+
+	// calls acquired before the last transition are not recorded
+	private long generation;
+
+	/**
+	 * Create a CircuitBreaker.
+	 *
+	 * @param config the configuration of the CircuitBreaker.
+	 */
+	public CircuitBreaker(final CircuitBreakerConfig config) {
+		this(config, System::nanoTime);
+	}
+
+	/**
+	 * Create a CircuitBreaker with a custom clock, for testing.
+	 */
+	CircuitBreaker(final CircuitBreakerConfig config, final LongSupplier nanoTime) {
+		if (config.getWindowSize() <= 0 || config.getHalfOpenTrials() <= 0) {
+			throw new IllegalArgumentException("windowSize and halfOpenTrials must be positive");
+		}
+		this.config = config;
+		this.nanoTime = nanoTime;
+		this.failed = new boolean[config.getWindowSize()];
+		this.slow = new boolean[config.getWindowSize()];
+	}
+
+	/**
+	 * Adds a listener of the state transitions.
+	 *
+	 * @param listener the listener.
+	 */
+	public void addListener(final Listener listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener of the state transitions.
+	 *
+	 * @param listener the listener.
+	 */
+	public void removeListener(final Listener listener) {
+		this.listeners.remove(listener);
+	}
+
+	/**
+	 * Returns the current state, moving from open to half-open when the open duration has passed.
+	 *
+	 * @return the current state.
+	 */
+	public State getState() {
+		final State from;
+		synchronized (this) {
+			from = this.state;
+			if (!halfOpenIfDue()) {
+				return from;
+			}
+		}
+		notifyListeners(from, State.HALF_OPEN);
+		return State.HALF_OPEN;
+	}
+
+	/**
+	 * Returns the failure rate of the calls in the sliding window.
+	 *
+	 * @return the failure rate, between 0 and 1.
+	 */
+	public synchronized double getFailureRate() {
+		return this.calls == 0 ? 0 : (double) this.failures / this.calls;
+	}
+
+	/**
+	 * Returns the slow-call rate of the calls in the sliding window.
+	 *
+	 * @return the slow-call rate, between 0 and 1.
+	 */
+	public synchronized double getSlowCallRate() {
+		return this.calls == 0 ? 0 : (double) this.slowCalls / this.calls;
+	}
+
+	/**
+	 * Asks permission to make a call.
+	 *
+	 * @return a permit to pass to {@link #onResult(long, long, boolean)} when the call completes.
+	 * @throws CircuitBreakerOpenException if the call is not permitted.
+	 */
+	long acquire() throws CircuitBreakerOpenException {
+		final State from;
+		final boolean halfOpened;
+		String rejection = null;
+		long permit = -1;
+		synchronized (this) {
+			from = this.state;
+			halfOpened = halfOpenIfDue();
+			if (this.state == State.OPEN) {
+				final Duration remaining = Duration
+				        .ofNanos(this.openedAt + this.config.getOpenDuration().toNanos() - this.nanoTime.getAsLong());
+				rejection = "Circuit breaker is open, calls are rejected for " + remaining;
+			} else if (this.state == State.HALF_OPEN && this.trialsStarted >= this.config.getHalfOpenTrials()) {
+				rejection = "Circuit breaker is half-open, waiting for the trial calls";
+			} else {
+				if (this.state == State.HALF_OPEN) {
+					this.trialsStarted++;
+				}
+				permit = this.generation;
+			}
+		}
+		if (halfOpened) {
+			notifyListeners(from, State.HALF_OPEN);
+		}
+		if (rejection != null) {
+			throw new CircuitBreakerOpenException(rejection);
+		}
+		return permit;
+	}
+
+	/**
+	 * Records the outcome of a permitted call.
+	 *
+	 * @param permit        the permit returned by {@link #acquire()}.
+	 * @param durationNanos the duration of the call.
+	 * @param failure       whether the call failed.
+	 */
+	void onResult(final long permit, final long durationNanos, final boolean failure) {
+		final boolean isSlow = durationNanos >= this.config.getSlowCallDuration().toNanos();
+		final State from;
+		final State to;
+		synchronized (this) {
+			if (permit != this.generation) {
+				return;
+			}
+			from = this.state;
+			if (this.state == State.HALF_OPEN) {
+				if (failure || isSlow) {
+					open();
+				} else if (++this.trialsSucceeded >= this.config.getHalfOpenTrials()) {
+					close();
+				}
+			} else if (this.state == State.CLOSED) {
+				record(failure, isSlow);
+				if (this.calls >= Math.max(1, this.config.getMinimumCalls())
+				        && (getFailureRate() >= this.config.getFailureRateThreshold()
+				                || getSlowCallRate() >= this.config.getSlowCallRateThreshold())) {
+					open();
+				}
+			}
+			to = this.state;
+		}
+		if (from != to) {
+			notifyListeners(from, to);
+		}
+	}
+
+	/**
+	 * Gives back a permit that was not used for a call, e.g. because the caller was interrupted before sending it.
+	 *
+	 * @param permit the permit returned by {@link #acquire()}.
+	 */
+	synchronized void release(final long permit) {
+		if (permit == this.generation && this.state == State.HALF_OPEN) {
+			this.trialsStarted--;
+		}
+	}
+
+	private void record(final boolean failure, final boolean isSlow) {
+		if (this.calls == this.failed.length) {
+			this.failures -= this.failed[this.next] ? 1 : 0;
+			this.slowCalls -= this.slow[this.next] ? 1 : 0;
+		} else {
+			this.calls++;
+		}
+		this.failed[this.next] = failure;
+		this.slow[this.next] = isSlow;
+		this.failures += failure ? 1 : 0;
+		this.slowCalls += isSlow ? 1 : 0;
+		this.next = (this.next + 1) % this.failed.length;
+	}
+
+	private boolean halfOpenIfDue() {
+		if (this.state != State.OPEN
+		        || this.nanoTime.getAsLong() - this.openedAt < this.config.getOpenDuration().toNanos()) {
+			return false;
+		}
+		this.state = State.HALF_OPEN;
+		this.trialsStarted = 0;
+		this.trialsSucceeded = 0;
+		this.generation++;
+		return true;
+	}
+
+	private void open() {
+		this.state = State.OPEN;
+		this.openedAt = this.nanoTime.getAsLong();
+		this.generation++;
+	}
+
+	private void close() {
+		this.state = State.CLOSED;
+		this.next = 0;
+		this.calls = 0;
+		this.failures = 0;
+		this.slowCalls = 0;
+		this.generation++;
+	}
+
+	private void notifyListeners(final State from, final State to) {
+		for (Listener listener : this.listeners) {
+			listener.onStateChange(from, to);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package org.wattpad4j.api;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration of a {@link CircuitBreaker}.
+ * <p>
+ * The circuit opens when, over the last {@code windowSize} calls and once at least {@code minimumCalls} were made,
+ * the rate of failed calls reaches {@code failureRateThreshold} or the rate of calls slower than
+ * {@code slowCallDuration} reaches {@code slowCallRateThreshold}. After {@code openDuration} it lets
+ * {@code halfOpenTrials} calls through to decide whether to close again.
+ */
+@Getter
+@Builder
+public class CircuitBreakerConfig {
+
+	/**
+	 * Amount of most recent calls the rates are calculated over.
+	 */
+	@Builder.Default
+	private final int windowSize = WattpadConstants.DEFAULT_CIRCUIT_WINDOW_SIZE;
+
+	/**
+	 * Minimum amount of calls in the window before the circuit can open.
+	 */
+	@Builder.Default
+	private final int minimumCalls = WattpadConstants.DEFAULT_CIRCUIT_MINIMUM_CALLS;
+
+	/**
+	 * Rate of failed calls, between 0 and 1, at which the circuit opens.
+	 */
+	@Builder.Default
+	private final double failureRateThreshold = 0.5;
+
+	/**
+	 * Rate of slow calls, between 0 and 1, at which the circuit opens.
+	 */
+	@Builder.Default
+	private final double slowCallRateThreshold = 0.8;
+
+	/**
+	 * Calls that take longer than this count as slow.
+	 */
+	@Builder.Default
+	private final Duration slowCallDuration = WattpadConstants.DEFAULT_CIRCUIT_SLOW_CALL_DURATION;
+
+	/**
+	 * Time the circuit stays open before trial calls are let through.
+	 */
+	@Builder.Default
+	private final Duration openDuration = WattpadConstants.DEFAULT_CIRCUIT_OPEN_DURATION;
+
+	/**
+	 * Amount of trial calls let through while half-open. The circuit closes when all of them succeed, and opens again
+	 * as soon as one fails.
+	 */
+	@Builder.Default
+	private final int halfOpenTrials = WattpadConstants.DEFAULT_CIRCUIT_HALF_OPEN_TRIALS;
+
+	/**
+	 * Create a CircuitBreakerConfig with the default settings.
+	 *
+	 * @return the default CircuitBreakerConfig.
+	 */
+	public static CircuitBreakerConfig defaults() {
+		return CircuitBreakerConfig.builder().build();
+	}
+}
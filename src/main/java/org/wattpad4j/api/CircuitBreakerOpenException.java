@@ -0,0 +1,22 @@
+package org.wattpad4j.api;
+
+import java.io.Serial;
+
+/**
+ * This is the exception that will be thrown when a call is rejected without contacting Wattpad because the
+ * {@link CircuitBreaker} of the {@link WattpadApi} is open.
+ */
+public class CircuitBreakerOpenException extends WattpadApiException {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Create a CircuitBreakerOpenException instance based on a message.
+	 *
+	 * @param message the message.
+	 */
+	public CircuitBreakerOpenException(String message) {
+		super(message);
+	}
+}
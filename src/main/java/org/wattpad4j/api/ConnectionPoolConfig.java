@@ -0,0 +1,74 @@
+package org.wattpad4j.api;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration of the pooled, keep-alive connection manager used by the Apache 5 connector of {@link WattpadApi}.
+ * <p>
+ * All the calls of a {@link WattpadApi} go to the same host, so {@code maxPerRoute} is the limit that matters in
+ * practice; {@code maxTotal} only caps the pool as a whole.
+ */
+@Getter
+@Builder
+public class ConnectionPoolConfig {
+
+	/**
+	 * Maximum amount of connections in the pool.
+	 */
+	@Builder.Default
+	private final int maxTotal = WattpadConstants.DEFAULT_MAX_CONNECTIONS;
+
+	/**
+	 * Maximum amount of connections per route (host).
+	 */
+	@Builder.Default
+	private final int maxPerRoute = WattpadConstants.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+	/**
+	 * Connections that are idle for longer than this are evicted from the pool by a background thread.
+	 */
+	@Builder.Default
+	private final Duration idleEviction = WattpadConstants.DEFAULT_IDLE_EVICTION;
+
+	/**
+	 * Maximum time an idle connection is kept alive when the server does not ask for a shorter time.
+	 */
+	@Builder.Default
+	private final Duration keepAlive = WattpadConstants.DEFAULT_KEEP_ALIVE;
+
+	/**
+	 * Total time to live of a connection, regardless of it being used or not.
+	 */
+	@Builder.Default
+	private final Duration timeToLive = WattpadConstants.DEFAULT_CONNECTION_TIME_TO_LIVE;
+
+	/**
+	 * Connections that have been idle for longer than this are validated before they are leased again.
+	 */
+	@Builder.Default
+	private final Duration validateAfterInactivity = WattpadConstants.DEFAULT_VALIDATE_AFTER_INACTIVITY;
+
+	/**
+	 * Maximum time to establish a connection.
+	 */
+	@Builder.Default
+	private final Duration connectTimeout = WattpadConstants.DEFAULT_CONNECT_TIMEOUT;
+
+	/**
+	 * Maximum time to wait for data from the server, unless the deadline of the call leaves less time.
+	 */
+	@Builder.Default
+	private final Duration readTimeout = WattpadConstants.DEFAULT_READ_TIMEOUT;
+
+	/**
+	 * Create a ConnectionPoolConfig with the default settings.
+	 *
+	 * @return the default ConnectionPoolConfig.
+	 */
+	public static ConnectionPoolConfig defaults() {
+		return ConnectionPoolConfig.builder().build();
+	}
+}
@@ -0,0 +1,56 @@
+package org.wattpad4j.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * InputStream that counts the bytes read through it.
+ */
+class CountingInputStream extends FilterInputStream {
+
+	private long count;
+
+	CountingInputStream(final InputStream in) {
+		super(in);
+	}
+
+	/**
+	 * Returns the amount of bytes read so far.
+	 *
+	 * @return the amount of bytes read so far.
+	 */
+	long getCount() {
+		return this.count;
+	}
+
+	@Override
+	public int read() throws IOException {
+		final int read = super.read();
+		if (read != -1) {
+			this.count++;
+		}
+		return read;
+	}
+
+	@Override
+	public int read(final byte[] b, final int off, final int len) throws IOException {
+		final int read = super.read(b, off, len);
+		if (read > 0) {
+			this.count += read;
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(final long n) throws IOException {
+		final long skipped = super.skip(n);
+		this.count += skipped;
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+}
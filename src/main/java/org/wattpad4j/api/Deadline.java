@@ -0,0 +1,81 @@
+package org.wattpad4j.api;
+
+import java.time.Duration;
+
+/**
+ * A point in time by which a call to Wattpad, including all its retries and, for a {@link Pager}, all its pages, has
+ * to be completed. The time that is left carries over from request to request: every request may only take the time
+ * that remains.
+ * <p>
+ * A call that runs past its deadline fails with a {@link WattpadTimeoutException}.
+ */
+public final class Deadline {
+
+	private final Duration timeout;
+	private final long deadlineNanos;
+
+	private Deadline(final Duration timeout) {
+		this.timeout = timeout;
+		this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+	}
+
+	/**
+	 * Create a Deadline that passes after the given timeout, starting now.
+	 *
+	 * @param timeout the time the call may take.
+	 * @return the Deadline.
+	 */
+	public static Deadline after(final Duration timeout) {
+		if (timeout.isNegative()) {
+			throw new IllegalArgumentException("timeout must not be negative");
+		}
+		return new Deadline(timeout);
+	}
+
+	/**
+	 * Returns the time the call was given when this Deadline was created.
+	 *
+	 * @return the timeout of the call.
+	 */
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * Returns the time that is left before this Deadline passes.
+	 *
+	 * @return the time that is left, or zero if this Deadline has passed.
+	 */
+	public Duration remaining() {
+		final long remaining = this.deadlineNanos - System.nanoTime();
+		return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+	}
+
+	/**
+	 * Returns whether this Deadline has passed.
+	 *
+	 * @return true if no time is left, otherwise returns false.
+	 */
+	public boolean isExpired() {
+		return this.deadlineNanos - System.nanoTime() <= 0;
+	}
+
+	/**
+	 * Returns the time that is left, failing if this Deadline has passed.
+	 *
+	 * @return the time that is left.
+	 * @throws WattpadTimeoutException if this Deadline has passed.
+	 */
+	Duration remainingOrThrow() throws WattpadTimeoutException {
+		final Duration remaining = remaining();
+		if (remaining.isZero()) {
+			throw new WattpadTimeoutException("Deadline of " + this.timeout + " exceeded");
+		}
+		return remaining;
+	}
+
+	@Override
+	public String toString() {
+		return "Deadline[timeout=" + this.timeout + ", remaining=" + remaining() + "]";
+	}
+}
@@ -0,0 +1,185 @@
+package org.wattpad4j.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * A lightweight {@link Transport} on {@code java.net.http.HttpClient}, which starts faster and uses less memory than
+ * the Jersey client, as it does not need any injection framework.
+ * <p>
+ * The client prefers HTTP/2, so concurrent calls, like the pages of {@link Pager#all(int)}, are multiplexed over a
+ * single connection to Wattpad. It falls back to HTTP/1.1 when the server does not support HTTP/2.
+ */
+public class HttpClientTransport implements Transport {
+
+	private final HttpClient client;
+	private final Duration readTimeout;
+
+	/**
+	 * Create an HttpClientTransport preferring HTTP/2, running its asynchronous calls on the default executor of the
+	 * client.
+	 */
+	public HttpClientTransport() {
+		this(builder(WattpadConstants.DEFAULT_CONNECT_TIMEOUT).build());
+	}
+
+	/**
+	 * Create an HttpClientTransport preferring HTTP/2.
+	 *
+	 * @param executor the executor the client runs its asynchronous calls on.
+	 */
+	public HttpClientTransport(@Nonnull final ExecutorService executor) {
+		this(builder(WattpadConstants.DEFAULT_CONNECT_TIMEOUT).executor(executor).build());
+	}
+
+	/**
+	 * Create an HttpClientTransport preferring HTTP/2, with custom timeouts.
+	 *
+	 * @param connectTimeout the maximum time to establish a connection.
+	 * @param readTimeout    the maximum time to wait for a response, unless the deadline of the call leaves less time.
+	 */
+	public HttpClientTransport(@Nonnull final Duration connectTimeout, @Nonnull final Duration readTimeout) {
+		this(builder(connectTimeout).build(), readTimeout);
+	}
+
+	/**
+	 * Create an HttpClientTransport that sends the calls through an existing client. The client should not
+	 * decompress the responses.
+	 *
+	 * @param client the client.
+	 */
+	public HttpClientTransport(@Nonnull final HttpClient client) {
+		this(client, WattpadConstants.DEFAULT_READ_TIMEOUT);
+	}
+
+	/**
+	 * Create an HttpClientTransport that sends the calls through an existing client, with a custom read timeout. The
+	 * client should not decompress the responses.
+	 *
+	 * @param client      the client.
+	 * @param readTimeout the maximum time to wait for a response, unless the deadline of the call leaves less time.
+	 */
+	public HttpClientTransport(@Nonnull final HttpClient client, @Nonnull final Duration readTimeout) {
+		this.client = client;
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * Returns the HTTP version the client prefers.
+	 *
+	 * @return the preferred HTTP version.
+	 */
+	public HttpClient.Version getVersion() {
+		return this.client.version();
+	}
+
+	@Override
+	public TransportResponse get(final URL url, final Map<String, String> queryParams,
+	        final Map<String, String> headers, @Nullable final Duration timeout)
+	        throws IOException, InterruptedException {
+		return new HttpClientResponse(this.client.send(request(url, queryParams, headers, timeout(timeout)),
+		        HttpResponse.BodyHandlers.ofInputStream()));
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> getAsync(final URL url, final Map<String, String> queryParams,
+	        final Map<String, String> headers, @Nullable final Duration timeout) {
+		return this.client
+		        .sendAsync(request(url, queryParams, headers, timeout(timeout)),
+		                HttpResponse.BodyHandlers.ofInputStream())
+		        .thenApply(HttpClientResponse::new);
+	}
+
+	/**
+	 * Closes the client, waiting for the calls in flight to complete.
+	 */
+	@Override
+	public void close() {
+		this.client.close();
+	}
+
+	private static HttpClient.Builder builder(final Duration connectTimeout) {
+		return HttpClient.newBuilder()
+		        .version(HttpClient.Version.HTTP_2)
+		        .followRedirects(HttpClient.Redirect.NORMAL)
+		        .connectTimeout(connectTimeout);
+	}
+
+	private Duration timeout(final Duration timeout) {
+		return timeout == null || timeout.compareTo(this.readTimeout) > 0 ? this.readTimeout : timeout;
+	}
+
+	static HttpRequest request(final URL url, final Map<String, String> queryParams, final Map<String, String> headers,
+	        final Duration timeout) {
+		final HttpRequest.Builder builder = HttpRequest.newBuilder(uri(url, queryParams)).GET().timeout(timeout);
+		headers.forEach(builder::header);
+		return builder.build();
+	}
+
+	static URI uri(final URL url, final Map<String, String> queryParams) {
+		final StringBuilder uri = new StringBuilder(url.toExternalForm());
+		if (queryParams != null && !queryParams.isEmpty()) {
+			char separator = '?';
+			for (Map.Entry<String, String> param : queryParams.entrySet()) {
+				uri.append(separator)
+				        .append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8))
+				        .append('=')
+				        .append(URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8));
+				separator = '&';
+			}
+		}
+		return URI.create(uri.toString());
+	}
+
+	/**
+	 * A java.net.http response with its body as received over the wire.
+	 */
+	private record HttpClientResponse(HttpResponse<InputStream> response) implements TransportResponse {
+
+		@Override
+		public int getStatus() {
+			return this.response.statusCode();
+		}
+
+		@Override
+		public String getReasonPhrase() {
+			// HTTP/2 has no reason phrases
+			return null;
+		}
+
+		@Override
+		public String getHeader(final String name) {
+			final List<String> values = this.response.headers().allValues(name);
+			return values.isEmpty() ? null : String.join(",", values);
+		}
+
+		@Override
+		public InputStream getBody() {
+			return this.response.body();
+		}
+
+		@Override
+		public void close() {
+			try {
+				this.response.body().close();
+			} catch (IOException e) {
+				// nothing left to release
+			}
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package org.wattpad4j.api;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.glassfish.jersey.apache5.connector.Apache5ClientProperties;
+import org.glassfish.jersey.apache5.connector.Apache5ConnectorProvider;
+import org.glassfish.jersey.apache5.connector.Apache5HttpClientBuilderConfigurator;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.JerseyClientBuilder;
+import org.glassfish.jersey.jackson.JacksonFeature;
+import org.wattpad4j.util.JacksonJson;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * The default {@link Transport}, sending the calls through a Jersey client with a pooled, keep-alive Apache 5
+ * connector.
+ */
+public class JerseyTransport implements Transport {
+
+	private final Client client;
+	private final Duration readTimeout;
+
+	/**
+	 * Create a JerseyTransport with a pooled, keep-alive Apache 5 connector.
+	 *
+	 * @param poolConfig the configuration of the connection pool.
+	 * @param executor   the executor the client runs its asynchronous calls on.
+	 */
+	public JerseyTransport(@Nonnull final ConnectionPoolConfig poolConfig, @Nonnull final ExecutorService executor) {
+		final ClientConfig clientConfig = new ClientConfig();
+
+		clientConfig.property(ClientProperties.FEATURE_AUTO_DISCOVERY_DISABLE, true);
+		clientConfig.property(ClientProperties.METAINF_SERVICES_LOOKUP_DISABLE, true);
+		clientConfig.property(ClientProperties.CONNECT_TIMEOUT, toMillis(poolConfig.getConnectTimeout()));
+		clientConfig.property(ClientProperties.READ_TIMEOUT, toMillis(poolConfig.getReadTimeout()));
+
+		clientConfig.connectorProvider(new Apache5ConnectorProvider());
+		clientConfig.property(Apache5ClientProperties.CONNECTION_MANAGER, connectionManager(poolConfig));
+		clientConfig.property(Apache5ClientProperties.KEEPALIVE_STRATEGY, keepAliveStrategy(poolConfig));
+		// responses are decompressed while they are parsed, see TransferStatistics
+		clientConfig.register((Apache5HttpClientBuilderConfigurator) httpClientBuilder -> httpClientBuilder
+		        .evictExpiredConnections()
+		        .evictIdleConnections(TimeValue.of(poolConfig.getIdleEviction()))
+		        .disableContentCompression());
+
+		clientConfig.register(JacksonJson.class);
+		clientConfig.register(JacksonFeature.class);
+
+		final ClientBuilder clientBuilder = new JerseyClientBuilder().withConfig(clientConfig)
+		        .executorService(executor);
+
+		clientBuilder.register(JacksonJson.class);
+		clientBuilder.register(JacksonFeature.class);
+
+		this.client = clientBuilder.build();
+		this.readTimeout = poolConfig.getReadTimeout();
+	}
+
+	/**
+	 * Create a JerseyTransport that sends the calls through an existing client. The read timeout of a call is only
+	 * overridden when its deadline leaves less time than the read timeout configured on the client.
+	 *
+	 * @param client the client.
+	 */
+	public JerseyTransport(@Nonnull final Client client) {
+		this.client = client;
+		final Object readTimeout = client.getConfiguration() == null
+		        ? null
+		        : client.getConfiguration().getProperty(ClientProperties.READ_TIMEOUT);
+		this.readTimeout = readTimeout instanceof Number millis && millis.longValue() > 0
+		        ? Duration.ofMillis(millis.longValue())
+		        : null;
+	}
+
+	@Override
+	public TransportResponse get(final URL url, final Map<String, String> queryParams,
+	        final Map<String, String> headers, @Nullable final Duration timeout) {
+		return new JerseyResponse(invocation(url, queryParams, headers, timeout).get());
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> getAsync(final URL url, final Map<String, String> queryParams,
+	        final Map<String, String> headers, @Nullable final Duration timeout) {
+		return invocation(url, queryParams, headers, timeout).rx().get().toCompletableFuture()
+		        .thenApply(JerseyResponse::new);
+	}
+
+	/**
+	 * Closes the client, releasing all the pooled connections.
+	 */
+	@Override
+	public void close() {
+		this.client.close();
+	}
+
+	private Invocation.Builder invocation(final URL url, final Map<String, String> queryParams,
+	        final Map<String, String> headers, final Duration timeout) {
+
+		WebTarget target = this.client.target(url.toExternalForm());
+		if (queryParams != null) {
+			for (Map.Entry<String, String> param : queryParams.entrySet()) {
+				target = target.queryParam(param.getKey(), param.getValue());
+			}
+		}
+		Invocation.Builder builder = target.request();
+		for (Map.Entry<String, String> header : headers.entrySet()) {
+			builder = builder.header(header.getKey(), header.getValue());
+		}
+		// only override the read timeout of the client when the deadline of the call leaves less time
+		if (timeout != null && (this.readTimeout == null || timeout.compareTo(this.readTimeout) < 0)) {
+			builder = builder.property(ClientProperties.READ_TIMEOUT, toMillis(timeout));
+		}
+		return builder;
+	}
+
+	/**
+	 * Converts a timeout to the milliseconds Jersey expects, where 0 would mean no timeout at all.
+	 */
+	private static int toMillis(final Duration timeout) {
+		return Math.clamp(timeout.toMillis(), 1, Integer.MAX_VALUE);
+	}
+
+	private static PoolingHttpClientConnectionManager connectionManager(final ConnectionPoolConfig poolConfig) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
+		        .setMaxConnTotal(poolConfig.getMaxTotal())
+		        .setMaxConnPerRoute(poolConfig.getMaxPerRoute())
+		        .setDefaultConnectionConfig(ConnectionConfig.custom()
+		                .setTimeToLive(TimeValue.of(poolConfig.getTimeToLive()))
+		                .setValidateAfterInactivity(TimeValue.of(poolConfig.getValidateAfterInactivity()))
+		                .build())
+		        .build();
+	}
+
+	/**
+	 * Keep connections alive for as long as the server allows it, but never longer than the configured keep-alive.
+	 */
+	private static ConnectionKeepAliveStrategy keepAliveStrategy(final ConnectionPoolConfig poolConfig) {
+		final TimeValue keepAlive = TimeValue.of(poolConfig.getKeepAlive());
+		return (response, context) -> {
+			final TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+			        .getKeepAliveDuration(response, context);
+			return TimeValue.isPositive(serverKeepAlive) && serverKeepAlive.compareTo(keepAlive) < 0
+			        ? serverKeepAlive
+			        : keepAlive;
+		};
+	}
+
+	/**
+	 * A Jersey response with its entity as received over the wire.
+	 */
+	private record JerseyResponse(Response response) implements TransportResponse {
+
+		@Override
+		public int getStatus() {
+			return this.response.getStatus();
+		}
+
+		@Override
+		public String getReasonPhrase() {
+			final Response.StatusType statusInfo = this.response.getStatusInfo();
+			return statusInfo != null ? statusInfo.getReasonPhrase() : null;
+		}
+
+		@Override
+		public String getHeader(final String name) {
+			return this.response.getHeaderString(name);
+		}
+
+		@Override
+		public InputStream getBody() {
+			return (InputStream) this.response.getEntity();
+		}
+
+		@Override
+		public void close() {
+			this.response.close();
+		}
+	}
+}
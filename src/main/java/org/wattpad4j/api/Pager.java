@@ -1,19 +1,32 @@
 package org.wattpad4j.api;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
+import java.lang.ref.Cleaner;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.wattpad4j.models.HasNext;
-import org.wattpad4j.util.JacksonJson;
-
-import jakarta.ws.rs.core.Response;
 
 /**
  * This class defines an Iterator implementation that is used as a paging iterator for all API methods that hav a
@@ -26,47 +39,234 @@ import jakarta.ws.rs.core.Response;
  *
  * @param <T> the wattpad4j type
  */
-public class Pager<T extends HasNext<T>> implements Iterator<T> {
+public class Pager<T extends HasNext<T>> implements Iterator<T>, AutoCloseable {
+
+	private static final Cleaner CLEANER = Cleaner.create();
 
 	private int currentPage;
-	private URL nextUrl;
-	private T currentItem;
+	private URI nextUrl;
+	// the last page that was fetched, which pages completed asynchronously replace from other threads
+	private volatile Fetched<T> current;
+	// the pages claimed by nextAsync that were not fetched yet
+	private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
 	private final Class<T> type;
 
+	private final int total;
+	private final int startOffset;
+	private final int firstPageSize;
+	private final int pageSize;
 	private final int totalPages;
+	private final boolean adaptive;
 	private final WattpadApi api;
 	private final Map<String, String> queryParams;
+	private final String fields;
 	private final Object[] pathArgs;
+	private Deadline deadline;
+
+	private int readAheadDepth;
+	private ReadAhead<T> readAhead;
+	private Cleaner.Cleanable readAheadCleanable;
 
 	/**
-	 * Creates a Pager instance to access the API through the specified path and query parameters.
+	 * Creates a Pager instance to access the API through the specified path and query parameters. All the pages must
+	 * be fetched before the deadline created from the call timeout of the WattpadApi, if it has one.
 	 *
 	 * @param api      the WattpadApi implementation to communicate through.
 	 * @param type     the Wattpad4J type.
 	 * @param limit    items per page.
+	 * @param fields   the fields to include in retrieval.
 	 * @param pathArgs HTTP path arguments.
+	 * @throws WattpadApiException if any error occurs.
 	 */
 	public Pager(final WattpadApi api, final Class<T> type,
 	        final int limit, final String fields, final Object... pathArgs) throws WattpadApiException {
+		this(api, type, limit, api.newDeadline(), fields, pathArgs);
+	}
 
-		this.queryParams = new HashMap<>();
-		this.queryParams.put(WattpadConstants.OFFSET, Integer.toString(0));
-		this.queryParams.put(WattpadConstants.LIMIT, Integer.toString(limit));
-		this.queryParams.put(WattpadConstants.FIELDS, fields);
+	/**
+	 * Creates a Pager instance to access the API through the specified path and query parameters, fetching all the
+	 * pages before the deadline. Every page may only take the time that is left after the pages before it.
+	 *
+	 * @param api      the WattpadApi implementation to communicate through.
+	 * @param type     the Wattpad4J type.
+	 * @param limit    items per page.
+	 * @param deadline the deadline by which all the pages must be fetched; null for no deadline.
+	 * @param fields   the fields to include in retrieval.
+	 * @param pathArgs HTTP path arguments.
+	 * @throws WattpadTimeoutException if the first page cannot be fetched before the deadline.
+	 * @throws WattpadApiException     if any error occurs.
+	 */
+	public Pager(final WattpadApi api, final Class<T> type, final int limit, final Deadline deadline,
+	        final String fields, final Object... pathArgs) throws WattpadApiException {
+		this(api, type, fields, deadline, 0, limit, null,
+		        api.get(type, deadline, pageQueryParams(0, limit, fields), pathArgs), 0, pathArgs);
+	}
 
-		try {
-			final Response response = api.get(this.queryParams, pathArgs);
-			this.currentItem = JacksonJson.mapper.readValue((InputStream) response.getEntity(), type);
-		} catch (IOException e) {
-			throw new WattpadApiException(e);
-		}
+	/**
+	 * Creates a Pager instance resuming a crawl from a checkpoint taken with {@link #getCursor()}. The pages are
+	 * fetched from the offset of the cursor with its limit, and the pages of this pager are numbered from there. All
+	 * the pages must be fetched before the deadline created from the call timeout of the WattpadApi, if it has one.
+	 *
+	 * @param api    the WattpadApi implementation to communicate through.
+	 * @param cursor the checkpoint to resume from.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	public Pager(final WattpadApi api, final PagerCursor<T> cursor) throws WattpadApiException {
+		this(api, cursor, api.newDeadline());
+	}
+
+	/**
+	 * Creates a Pager instance resuming a crawl from a checkpoint taken with {@link #getCursor()}, fetching all the
+	 * remaining pages before the deadline. The total is taken from the first page fetched, so items that were added or
+	 * removed since the checkpoint may shift the remaining items.
+	 *
+	 * @param api      the WattpadApi implementation to communicate through.
+	 * @param cursor   the checkpoint to resume from.
+	 * @param deadline the deadline by which all the pages must be fetched; null for no deadline.
+	 * @throws WattpadTimeoutException if the first page cannot be fetched before the deadline.
+	 * @throws WattpadApiException     if any error occurs.
+	 */
+	public Pager(final WattpadApi api, final PagerCursor<T> cursor, final Deadline deadline)
+	        throws WattpadApiException {
+		this(api, cursor.type(), cursor.fields(), deadline, cursor.offset(), cursor.limit(), null,
+		        fetch(api, cursor.type(), deadline, cursor.fields(), cursor.limit(), cursor.offset(),
+		                cursor.pathArgs().toArray()),
+		        0, cursor.pathArgs().toArray());
+	}
+
+	/**
+	 * Creates a Pager instance sizing its pages adaptively.
+	 *
+	 * @param <T>      the wattpad4j type
+	 * @param api      the WattpadApi implementation to communicate through.
+	 * @param type     the Wattpad4J type.
+	 * @param paging   what was learned about the page sizes, which the first page is requested with.
+	 * @param deadline the deadline by which all the pages must be fetched; null for no deadline.
+	 * @param fields   the fields to include in retrieval.
+	 * @param pathArgs HTTP path arguments.
+	 * @return the pager.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	static <T extends HasNext<T>> Pager<T> create(final WattpadApi api, final Class<T> type,
+	        final AdaptivePaging paging, final Deadline deadline, final String fields, final Object... pathArgs)
+	        throws WattpadApiException {
+		final int limit = paging.limit(type, fields);
+		final long[] bytes = new long[1];
+		final T first = api.getCounting(type, deadline, pageQueryParams(0, limit, fields), read -> bytes[0] = read,
+		        pathArgs);
+		return new Pager<>(api, type, fields, deadline, 0, limit, paging, first, bytes[0], pathArgs);
+	}
+
+	/**
+	 * Creates a Pager instance from its first page.
+	 *
+	 * @param api         the WattpadApi implementation to communicate through.
+	 * @param type        the Wattpad4J type.
+	 * @param fields      the fields to include in retrieval.
+	 * @param deadline    the deadline by which all the pages must be fetched, or null.
+	 * @param startOffset the offset the first page was requested with.
+	 * @param limit       the limit the first page was requested with.
+	 * @param paging      what was learned about the page sizes, to size the other pages with; null to size them
+	 *                    like the first page.
+	 * @param first       the first page.
+	 * @param firstBytes  the size of the decoded body of the first page, or 0 if unknown.
+	 * @param pathArgs    HTTP path arguments.
+	 */
+	private Pager(final WattpadApi api, final Class<T> type, final String fields, final Deadline deadline,
+	        final int startOffset, final int limit, final AdaptivePaging paging, final T first, final long firstBytes,
+	        final Object... pathArgs) {
+		this.queryParams = new HashMap<>();
+		this.current = new Fetched<>(1, first);
 
 		this.currentPage = 0;
-		this.nextUrl = this.currentItem.getNextUrl();
-		this.totalPages = Math.ceilDiv(this.currentItem.getTotal(), this.currentItem.getCurrentTotalElements());
+		this.nextUrl = first.getNextUrl();
+		// the server may honour less than the requested limit, so the first page tells the actual page size
+		this.total = first.getTotal();
+		this.startOffset = startOffset;
+		this.firstPageSize = first.getCurrentTotalElements();
+		this.adaptive = paging != null;
+		if (this.adaptive) {
+			paging.learn(type, fields, limit, this.firstPageSize, this.total > this.firstPageSize, firstBytes);
+			this.pageSize = paging.limit(type, fields);
+		} else {
+			this.pageSize = Math.max(this.firstPageSize, 1);
+		}
+		final int remaining = Math.max(this.total - startOffset, 0);
+		this.totalPages = remaining <= this.firstPageSize ? Math.min(remaining, 1)
+		        : 1 + Math.ceilDiv(remaining - this.firstPageSize, this.pageSize);
 		this.type = type;
 		this.api = api;
+		this.fields = fields;
 		this.pathArgs = pathArgs;
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Creates a Pager instance asynchronously, to access the API through the specified path and query parameters.
+	 *
+	 * @param <T>      the wattpad4j type
+	 * @param api      the WattpadApi implementation to communicate through.
+	 * @param type     the Wattpad4J type.
+	 * @param limit    items per page.
+	 * @param fields   the fields to include in retrieval.
+	 * @param pathArgs HTTP path arguments.
+	 * @return a future of the pager, completed once the first page is fetched, or completed exceptionally with a
+	 *         WattpadApiException if any error occurs.
+	 */
+	public static <T extends HasNext<T>> CompletableFuture<Pager<T>> createAsync(final WattpadApi api,
+	        final Class<T> type, final int limit, final String fields, final Object... pathArgs) {
+		final Deadline deadline = api.newDeadline();
+		return api.getAsync(type, deadline, pageQueryParams(0, limit, fields), pathArgs)
+		        .thenApply(first -> new Pager<>(api, type, fields, deadline, 0, limit, null, first, 0, pathArgs));
+	}
+
+	/**
+	 * Creates a Pager instance sizing its pages adaptively, asynchronously.
+	 *
+	 * @param <T>      the wattpad4j type
+	 * @param api      the WattpadApi implementation to communicate through.
+	 * @param type     the Wattpad4J type.
+	 * @param paging   what was learned about the page sizes, which the first page is requested with.
+	 * @param fields   the fields to include in retrieval.
+	 * @param pathArgs HTTP path arguments.
+	 * @return a future of the pager, completed once the first page is fetched.
+	 */
+	static <T extends HasNext<T>> CompletableFuture<Pager<T>> createAsync(final WattpadApi api, final Class<T> type,
+	        final AdaptivePaging paging, final String fields, final Object... pathArgs) {
+		final Deadline deadline = api.newDeadline();
+		final int limit = paging.limit(type, fields);
+		final long[] bytes = new long[1];
+		return api.getAsyncCounting(type, deadline, pageQueryParams(0, limit, fields), read -> bytes[0] = read,
+		        pathArgs)
+		        .thenApply(first -> new Pager<>(api, type, fields, deadline, 0, limit, paging, first, bytes[0],
+		                pathArgs));
+	}
+
+	static Map<String, String> pageQueryParams(final int offset, final int limit, final String fields) {
+		final Map<String, String> queryParams = new HashMap<>();
+		queryParams.put(WattpadConstants.OFFSET, Integer.toString(offset));
+		queryParams.put(WattpadConstants.LIMIT, Integer.toString(limit));
+		queryParams.put(WattpadConstants.FIELDS, fields);
+		return queryParams;
+	}
+
+	/**
+	 * Returns the deadline by which all the pages must be fetched.
+	 *
+	 * @return the deadline, or null if there is none.
+	 */
+	public Deadline getDeadline() {
+		return this.deadline;
+	}
+
+	/**
+	 * Sets the deadline by which the remaining pages must be fetched, e.g. to give a pager that is iterated slowly
+	 * more time. Pages that are already being fetched ahead keep the previous deadline.
+	 *
+	 * @param deadline the deadline; null for no deadline.
+	 */
+	public void setDeadline(final Deadline deadline) {
+		this.deadline = deadline;
 	}
 
 	/**
@@ -89,12 +289,52 @@ public class Pager<T extends HasNext<T>> implements Iterator<T> {
 	@Override
 	public T next() throws RuntimeException {
 		try {
+			if (this.readAheadDepth > 0) {
+				return readAheadPage();
+			}
 			return page(this.currentPage + 1);
 		} catch (WattpadApiException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Sets how many pages are fetched ahead while iterating with {@link #next()}. While a page is handed to the
+	 * caller, the following {@code depth} pages are already being fetched on virtual threads, so the network time
+	 * overlaps with the processing of the caller. An error fetching a page is thrown by the call to {@code next()}
+	 * that returns that page.
+	 * <p>
+	 * Pages that are fetched ahead are cancelled by {@link #close()}, or when the pager is garbage collected.
+	 *
+	 * @param depth amount of pages to fetch ahead; 0 disables reading ahead, which is the default.
+	 * @throws IllegalArgumentException if depth is negative.
+	 */
+	public void setReadAhead(final int depth) {
+		if (depth < 0) {
+			throw new IllegalArgumentException("read ahead depth must not be negative");
+		}
+		this.readAheadDepth = depth;
+		if (this.readAhead == null && depth > 0) {
+			this.readAhead = new ReadAhead<>(this.currentPage);
+			this.readAheadCleanable = CLEANER.register(this, this.readAhead);
+		} else if (this.readAhead != null && depth == 0) {
+			this.readAhead.cancel(this.currentPage);
+		}
+	}
+
+	/**
+	 * Cancels the pages that are being fetched ahead. The pager can still be used afterward, without reading ahead.
+	 */
+	@Override
+	public void close() {
+		this.readAheadDepth = 0;
+		if (this.readAheadCleanable != null) {
+			this.readAheadCleanable.clean();
+			this.readAheadCleanable = null;
+			this.readAhead = null;
+		}
+	}
+
 	/**
 	 * This method is not implemented and will throw an UnsupportedOperationException if called.
 	 *
@@ -106,35 +346,81 @@ public class Pager<T extends HasNext<T>> implements Iterator<T> {
 	}
 
 	/**
-	 * Returns the next item in the iteration containing the object.
+	 * Returns a page by its number, counted from 1. The page after the current one is fetched from its nextUrl, and any
+	 * other page directly from its offset, without fetching the pages before it. The iteration continues after the
+	 * returned page.
 	 *
-	 * @return the next item in the iteration.
-	 * @throws NoSuchElementException if the iteration has no more elements.
+	 * @param pageNumber the number of the page.
+	 * @return the page.
+	 * @throws NoSuchElementException if there is no such page.
 	 * @throws WattpadApiException    if any error occurs.
 	 */
-	private T page(final int pageNumber) throws WattpadApiException {
-		// already got first item in the constructor
-		if (this.currentPage == 0 && pageNumber == 1) {
-			this.currentPage = 1;
-			return this.currentItem;
-		}
-		if (this.currentPage == pageNumber) {
-			return this.currentItem;
+	public T page(final int pageNumber) throws WattpadApiException {
+		// already got first item in the constructor, or the page was fetched last
+		final Fetched<T> fetched = this.current;
+		if (fetched.number() == pageNumber) {
+			this.pending.remove(pageNumber);
+			this.currentPage = pageNumber;
+			return fetched.page();
 		}
 
-		if (pageNumber > this.totalPages) {
+		if (pageNumber < 1 || pageNumber > this.totalPages) {
 			throw new NoSuchElementException();
 		}
-		try {
-			this.nextUrl = this.currentItem.getNextUrl();
-			this.updateQueryParams();
+		if (pageNumber != fetched.number() + 1) {
+			// pages fetched ahead follow the current page
+			cancelReadAhead();
+			final T page = fetch(this.api, this.type, this.deadline, this.fields,
+			        pageNumber == 1 ? Math.max(this.firstPageSize, 1) : this.pageSize, offset(pageNumber),
+			        this.pathArgs);
+			this.current = new Fetched<>(pageNumber, page);
+			this.pending.remove(pageNumber);
 			this.currentPage = pageNumber;
-			Response response = this.api.get(this.queryParams, this.pathArgs);
-			this.currentItem = JacksonJson.mapper.readValue((InputStream) response.getEntity(), this.type);
-			return this.currentItem;
-		} catch (IOException e) {
-			throw new WattpadApiException(e);
+			return page;
+		}
+		this.nextUrl = fetched.page().getNextUrl();
+		this.updateQueryParams();
+		if (this.adaptive) {
+			// the nextUrl has the limit of the first page
+			this.queryParams.put(WattpadConstants.OFFSET, Integer.toString(offset(pageNumber)));
+			this.queryParams.put(WattpadConstants.LIMIT, Integer.toString(this.pageSize));
+		}
+		final T page = this.api.get(this.type, this.deadline, this.queryParams, this.pathArgs);
+		this.current = new Fetched<>(pageNumber, page);
+		this.pending.remove(pageNumber);
+		this.currentPage = pageNumber;
+		return page;
+	}
+
+	/**
+	 * Returns the amount of pages, from the total reported by Wattpad.
+	 *
+	 * @return the amount of pages.
+	 */
+	public int getTotalPages() {
+		return this.totalPages;
+	}
+
+	/**
+	 * Returns a checkpoint of this pager, from which the crawl can be resumed with
+	 * {@link #Pager(WattpadApi, PagerCursor)}. It points to the first item of the page after the last page returned,
+	 * or of the first page claimed by {@link #nextAsync()} that was not fetched yet, so resuming may fetch pages that
+	 * were already handed out again, but never skips one.
+	 *
+	 * @return the checkpoint.
+	 */
+	public PagerCursor<T> getCursor() {
+		int nextPage = this.currentPage + 1;
+		for (int pendingPage : this.pending) {
+			nextPage = Math.min(nextPage, pendingPage);
 		}
+		final List<String> path = new ArrayList<>(this.pathArgs.length);
+		for (Object pathArg : this.pathArgs) {
+			if (pathArg != null) {
+				path.add(pathArg.toString());
+			}
+		}
+		return new PagerCursor<>(this.type, path, this.fields, offset(nextPage), this.pageSize, this.total);
 	}
 
 	/**
@@ -144,27 +430,429 @@ public class Pager<T extends HasNext<T>> implements Iterator<T> {
 	 * @throws WattpadApiException if any error occurs.
 	 */
 	public T all() throws WattpadApiException {
-		// iterate through the pages and merge the objects.
-		this.currentPage = 0;
-		List<T> allItems = new ArrayList<>(Math.max(this.totalPages, 0));
+		// iterate through the pages and append them to a single object.
+		cancelReadAhead();
+		final T all = page(1).accumulator();
 		while (hasNext()) {
-			allItems.add(page(this.currentPage + 1));
+			all.append(page(this.currentPage + 1));
+		}
+		return all;
+	}
+
+	/**
+	 * Gets all the items from each page as a single object instance, fetching the pages after the first one
+	 * concurrently.
+	 * <p>
+	 * Since the first page tells the total and the page size, the offset of every other page is known upfront. Those
+	 * pages are fetched with at most {@code concurrency} requests in flight and are appended in page order.
+	 *
+	 * @param concurrency maximum amount of pages to fetch at the same time; 1 or less fetches the pages one by one.
+	 * @return all the items from each page as a single object instance.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	public T all(final int concurrency) throws WattpadApiException {
+		if (concurrency <= 1 || this.totalPages <= 2) {
+			return all();
+		}
+
+		cancelReadAhead();
+		final T first = page(1);
+		final List<Future<T>> pages = new ArrayList<>(this.totalPages - 1);
+		try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, this.totalPages - 1),
+		        Thread.ofVirtual().name("wattpad-pager-", 0).factory())) {
+			for (int pageNumber = 2; pageNumber <= this.totalPages; pageNumber++) {
+				final int offset = offset(pageNumber);
+				pages.add(executor.submit(() -> fetch(offset)));
+			}
+
+			final T all = first.accumulator();
+			try {
+				for (int pageNumber = 2; pageNumber <= this.totalPages; pageNumber++) {
+					final T page = await(pages.get(pageNumber - 2));
+					this.current = new Fetched<>(pageNumber, page);
+					all.append(page);
+				}
+			} catch (WattpadApiException e) {
+				executor.shutdownNow();
+				throw e;
+			}
+			this.pending.clear();
+			this.currentPage = this.totalPages;
+			return all;
+		}
+	}
+
+	/**
+	 * Returns the next item in the iteration asynchronously. The page is claimed when this method is called, so
+	 * calling it again before the future completes fetches the page after it.
+	 *
+	 * @return a future of the next item in the iteration, completed exceptionally with a NoSuchElementException if the
+	 *         iteration has no more elements, or with a WattpadApiException if any error occurs.
+	 */
+	public CompletableFuture<T> nextAsync() {
+		// already got first item in the constructor
+		if (this.currentPage == 0) {
+			this.currentPage = 1;
+			return CompletableFuture.completedFuture(this.current.page());
 		}
-		return allItems.stream().reduce(allItems.getFirst(), HasNext::merge);
+		if (!hasNext()) {
+			return CompletableFuture.failedFuture(new NoSuchElementException());
+		}
+		cancelReadAhead();
+		final int pageNumber = ++this.currentPage;
+		this.pending.add(pageNumber);
+		return fetchAsync(offset(pageNumber)).thenApply(page -> {
+			// the page and its number are published together; a page that failed stays pending
+			this.current = new Fetched<>(pageNumber, page);
+			this.pending.remove(pageNumber);
+			return page;
+		});
+	}
+
+	/**
+	 * Gets all the items from each page as a single object instance asynchronously, fetching the pages one by one.
+	 *
+	 * @return a future of all the items from each page as a single object instance, completed exceptionally with a
+	 *         WattpadApiException if any error occurs.
+	 */
+	public CompletableFuture<T> allAsync() {
+		return allAsync(1);
 	}
 
 	/**
-	 * Updates the queryParams with the params from the nextUrl.
+	 * Gets all the items from each page as a single object instance asynchronously. The pages after the first one are
+	 * spread over {@code concurrency} chains of requests, which each fetch their next page once the previous one is
+	 * done, and are appended in page order.
+	 *
+	 * @param concurrency maximum amount of pages to fetch at the same time.
+	 * @return a future of all the items from each page as a single object instance, completed exceptionally with a
+	 *         WattpadApiException if any error occurs.
+	 */
+	public CompletableFuture<T> allAsync(final int concurrency) {
+		cancelReadAhead();
+		// the first page was fetched in the constructor, unless this pager moved past it
+		final Fetched<T> fetched = this.current;
+		final CompletableFuture<T> first;
+		if (fetched.number() == 1) {
+			first = CompletableFuture.completedFuture(fetched.page());
+		} else {
+			first = fetchAsync(offset(1), Math.max(this.firstPageSize, 1)).thenApply(page -> {
+				this.current = new Fetched<>(1, page);
+				return page;
+			});
+		}
+		if (this.totalPages <= 1) {
+			return first.thenApply(page -> {
+				this.pending.clear();
+				this.currentPage = this.totalPages;
+				return page.accumulator();
+			});
+		}
+
+		final int lanes = Math.clamp(this.totalPages - 1, 0, Math.max(concurrency, 1));
+		final List<CompletableFuture<T>> pages = new ArrayList<>(Collections.nCopies(this.totalPages - 1, null));
+		for (int lane = 0; lane < lanes; lane++) {
+			CompletableFuture<?> previous = CompletableFuture.completedFuture(null);
+			for (int pageNumber = 2 + lane; pageNumber <= this.totalPages; pageNumber += lanes) {
+				final int offset = offset(pageNumber);
+				final CompletableFuture<T> page = previous.thenCompose(ignored -> fetchAsync(offset));
+				pages.set(pageNumber - 2, page);
+				previous = page;
+			}
+		}
+
+		CompletableFuture<T> all = first.thenApply(HasNext::accumulator);
+		for (CompletableFuture<T> page : pages) {
+			all = all.thenCombine(page, (accumulated, next) -> {
+				accumulated.append(next);
+				return accumulated;
+			});
+		}
+		return all.thenApply(accumulated -> {
+			this.pending.clear();
+			this.currentPage = this.totalPages;
+			return accumulated;
+		});
+	}
+
+	/**
+	 * Gets a lazy stream over the remaining pages. A page is only fetched once the stream needs it, and no reference
+	 * to a page is kept once the next one is fetched. The size of the stream is estimated from the total reported by
+	 * Wattpad, but not relied on.
+	 * <p>
+	 * Consuming the stream advances this pager; any error while fetching a page is thrown as a RuntimeException.
+	 * Closing the stream closes this pager.
+	 *
+	 * @return a sequential stream over the remaining pages.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(new PageSpliterator(), false).onClose(this::close);
+	}
+
+	/**
+	 * Gets a lazy stream over the items of the remaining pages, e.g. {@code stream(WattpadStories::getStories)}. Pages
+	 * are fetched on demand, so only the page that is being consumed is kept in memory. The size of the stream is
+	 * estimated from the total reported by Wattpad, but not relied on, as pages may hold fewer or more items.
+	 * <p>
+	 * Consuming the stream advances this pager; any error while fetching a page is thrown as a RuntimeException.
+	 * Closing the stream closes this pager.
+	 *
+	 * @param <E>   the type of the items.
+	 * @param items function returning the items of a page.
+	 * @return a sequential stream over the items of the remaining pages.
+	 */
+	public <E> Stream<E> stream(final Function<? super T, ? extends List<E>> items) {
+		return StreamSupport.stream(new ItemSpliterator<>(items), false).onClose(this::close);
+	}
+
+	/**
+	 * Returns the next page, fetched ahead in the background, and fetches the pages after it ahead.
+	 *
+	 * @return the next page.
+	 * @throws NoSuchElementException if the iteration has no more elements.
+	 * @throws WattpadApiException    if any error occurs fetching the next page.
+	 */
+	private T readAheadPage() throws WattpadApiException {
+		// already got first item in the constructor
+		if (this.currentPage == 0) {
+			this.currentPage = 1;
+		} else {
+			if (this.currentPage >= this.totalPages) {
+				throw new NoSuchElementException();
+			}
+			readAhead();
+			try {
+				this.current = new Fetched<>(this.currentPage + 1, await(this.readAhead.pages.remove()));
+			} catch (WattpadApiException e) {
+				// the next call will fetch the page again
+				this.readAhead.cancel(this.currentPage);
+				throw e;
+			}
+			this.currentPage++;
+		}
+		readAhead();
+		return this.current.page();
+	}
+
+	/**
+	 * Makes sure the pages up to the read ahead depth after the current page are being fetched.
+	 */
+	private void readAhead() {
+		if (this.readAhead.pages.isEmpty()) {
+			this.readAhead.lastPage = this.currentPage;
+		}
+		final int lastPage = Math.min(this.currentPage + this.readAheadDepth, this.totalPages);
+		while (this.readAhead.lastPage < lastPage) {
+			final int offset = offset(this.readAhead.lastPage + 1);
+			final WattpadApi api = this.api;
+			final Class<T> type = this.type;
+			final String fields = this.fields;
+			final int limit = this.pageSize;
+			final Object[] pathArgs = this.pathArgs;
+			final Deadline deadline = this.deadline;
+			// don't capture this pager, so it can be garbage collected while pages are in flight
+			this.readAhead.pages.add(this.readAhead.executor.submit(
+			        () -> fetch(api, type, deadline, fields, limit, offset, pathArgs)));
+			this.readAhead.lastPage++;
+		}
+	}
+
+	private void cancelReadAhead() {
+		if (this.readAhead != null) {
+			this.readAhead.cancel(0);
+		}
+	}
+
+	/**
+	 * Returns the offset of the first item of a page. The first page may have another size than the others, and starts
+	 * at the offset of the cursor when resuming.
+	 */
+	private int offset(final int pageNumber) {
+		return this.startOffset + (pageNumber == 1 ? 0 : this.firstPageSize + (pageNumber - 2) * this.pageSize);
+	}
+
+	/**
+	 * Fetches the page starting at the given offset, independent of the iteration state of this pager.
+	 *
+	 * @param offset offset of the first item of the page.
+	 * @return the page starting at the given offset.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	private T fetch(final int offset) throws WattpadApiException {
+		return fetch(this.api, this.type, this.deadline, this.fields, this.pageSize, offset, this.pathArgs);
+	}
+
+	private static <T> T fetch(final WattpadApi api, final Class<T> type, final Deadline deadline,
+	        final String fields, final int limit, final int offset, final Object... pathArgs)
+	        throws WattpadApiException {
+		return api.get(type, deadline, pageQueryParams(offset, limit, fields), pathArgs);
+	}
+
+	private CompletableFuture<T> fetchAsync(final int offset) {
+		return fetchAsync(offset, this.pageSize);
+	}
+
+	private CompletableFuture<T> fetchAsync(final int offset, final int limit) {
+		return this.api.getAsync(this.type, this.deadline, pageQueryParams(offset, limit, this.fields), this.pathArgs);
+	}
+
+	/**
+	 * Waits for a page that is fetched in the background.
+	 *
+	 * @param page the page being fetched.
+	 * @return the fetched page.
+	 * @throws WattpadApiException if the page could not be fetched, or the wait was interrupted.
+	 */
+	private static <T> T await(final Future<T> page) throws WattpadApiException {
+		try {
+			return page.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof WattpadApiException wattpadApiException) {
+				throw wattpadApiException;
+			}
+			throw new WattpadApiException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new WattpadApiException(e);
+		}
+	}
+
+	/**
+	 * Updates the queryParams with the params from the nextUrl. The params are decoded, as the transports encode them.
 	 */
 	private void updateQueryParams() {
 		this.queryParams.clear();
-		if (this.nextUrl == null) {
+		if (this.nextUrl == null || this.nextUrl.getRawQuery() == null) {
 			return;
 		}
-		String[] queryParams = this.nextUrl.getQuery().split("&");
+		String[] queryParams = this.nextUrl.getRawQuery().split("&");
 		for (String queryParam : queryParams) {
-			String[] params = queryParam.split("=");
-			this.queryParams.put(params[0], params[1]);
+			String[] params = queryParam.split("=", 2);
+			this.queryParams.put(URLDecoder.decode(params[0], StandardCharsets.UTF_8),
+			        params.length == 1 ? "" : URLDecoder.decode(params[1], StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Spliterator fetching the pages of this pager on demand.
+	 */
+	private final class PageSpliterator implements Spliterator<T> {
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action) {
+			if (!hasNext()) {
+				return false;
+			}
+			action.accept(next());
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			// pages are fetched one after the other
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Math.max(totalPages - currentPage, 0);
+		}
+
+		@Override
+		public int characteristics() {
+			// the total is only an estimate, so count() must fetch the pages instead of trusting it
+			return ORDERED | NONNULL;
+		}
+	}
+
+	/**
+	 * Spliterator over the items of the pages of this pager, fetching the next page once the items of the current one
+	 * have been consumed.
+	 *
+	 * @param <E> the type of the items.
+	 */
+	private final class ItemSpliterator<E> implements Spliterator<E> {
+
+		private final Function<? super T, ? extends List<E>> items;
+		private Iterator<E> pageItems = Collections.emptyIterator();
+		private long remaining = Math.max(total - (long) offset(currentPage + 1), 0);
+
+		private ItemSpliterator(final Function<? super T, ? extends List<E>> items) {
+			this.items = items;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super E> action) {
+			while (!this.pageItems.hasNext()) {
+				if (!hasNext()) {
+					return false;
+				}
+				final List<E> nextItems = this.items.apply(next());
+				this.pageItems = nextItems == null ? Collections.emptyIterator() : nextItems.iterator();
+			}
+			this.remaining = Math.max(this.remaining - 1, 0);
+			action.accept(this.pageItems.next());
+			return true;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			// pages are fetched one after the other
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.remaining;
+		}
+
+		@Override
+		public int characteristics() {
+			// the total is only an estimate, e.g. when a story is deleted while paging
+			return ORDERED;
+		}
+	}
+
+	/**
+	 * A page with its number, replaced as a whole so that a page is never seen with the number of another one.
+	 *
+	 * @param <T>    the wattpad4j type
+	 * @param number the number of the page.
+	 * @param page   the page.
+	 */
+	private record Fetched<T>(int number, T page) {
+	}
+
+	/**
+	 * The pages that are fetched ahead. It holds no reference to the pager, so it can be used to cancel the pages when
+	 * the pager is garbage collected.
+	 *
+	 * @param <T> the wattpad4j type
+	 */
+	private static final class ReadAhead<T> implements Runnable {
+
+		private final ExecutorService executor = Executors
+		        .newThreadPerTaskExecutor(Thread.ofVirtual().name("wattpad-read-ahead-", 0).factory());
+		private final Deque<Future<T>> pages = new ArrayDeque<>();
+		private int lastPage;
+
+		private ReadAhead(final int currentPage) {
+			this.lastPage = currentPage;
+		}
+
+		/**
+		 * Cancels the pages in flight; the next pages to fetch come after the current page.
+		 */
+		private void cancel(final int currentPage) {
+			this.pages.forEach(page -> page.cancel(true));
+			this.pages.clear();
+			this.lastPage = currentPage;
+		}
+
+		@Override
+		public void run() {
+			cancel(0);
+			this.executor.shutdownNow();
 		}
 	}
 }
@@ -0,0 +1,51 @@
+package org.wattpad4j.api;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import org.wattpad4j.models.HasNext;
+
+/**
+ * Checkpoint of a {@link Pager}, taken with {@link Pager#getCursor()}, from which a crawl can be resumed with
+ * {@link Pager#Pager(WattpadApi, PagerCursor)}, e.g. after a crash or in another process. It is serializable, so it can
+ * be saved along with the items that were processed so far.
+ *
+ * @param <T>      the wattpad4j type
+ * @param type     the Wattpad4J type.
+ * @param pathArgs HTTP path arguments.
+ * @param fields   the fields to include in retrieval.
+ * @param offset   offset of the first item that was not handed out yet.
+ * @param limit    items per page.
+ * @param total    the total reported by Wattpad when the checkpoint was taken.
+ */
+public record PagerCursor<T extends HasNext<T>>(Class<T> type, List<String> pathArgs, String fields, int offset,
+        int limit, int total) implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Create a PagerCursor.
+	 *
+	 * @throws NullPointerException     if type or pathArgs is null.
+	 * @throws IllegalArgumentException if offset is negative or limit is not positive.
+	 */
+	public PagerCursor {
+		Objects.requireNonNull(type, "type");
+		pathArgs = List.copyOf(pathArgs);
+		if (offset < 0 || limit <= 0) {
+			throw new IllegalArgumentException("offset must not be negative and limit must be positive");
+		}
+	}
+
+	/**
+	 * Returns whether all the items were handed out when the checkpoint was taken.
+	 *
+	 * @return true if there was nothing left to fetch.
+	 */
+	public boolean isDone() {
+		return this.offset >= this.total;
+	}
+}
@@ -0,0 +1,349 @@
+package org.wattpad4j.api;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The fields of a model to retrieve, to shrink the responses to what is used. A Projection is built from the field
+ * enums of the models, e.g.
+ *
+ * <pre>
+ * Projection&lt;StoryField&gt; projection = Projection.of(StoryField.ID, StoryField.MODIFY_DATE)
+ *         .with(StoryField.parts(PartField.ID, PartField.MODIFY_DATE));
+ * </pre>
+ * <p>
+ * which retrieves {@code id,modifyDate,parts(id,modifyDate)}. The nested objects of a model, like the parts, author and
+ * language of a story, are retrieved as a whole when their field is selected, or only partly with a sub-projection.
+ * <p>
+ * A Projection is immutable and computes its {@code fields} query parameter once, so it is best kept in a constant.
+ *
+ * @param <F> the field enum of the model.
+ */
+public final class Projection<F extends Enum<F> & Projection.Field> {
+
+	/**
+	 * A field of a model, as named in the {@code fields} query parameter.
+	 */
+	public interface Field {
+
+		/**
+		 * Returns the name of the field in the {@code fields} query parameter.
+		 *
+		 * @return the name of the field.
+		 */
+		String getName();
+	}
+
+	/**
+	 * A field of a model holding an object, with the fields of that object to retrieve. Created by the factory methods
+	 * of the field enums, like {@link StoryField#parts(PartField...)}.
+	 *
+	 * @param <F> the field enum of the model.
+	 */
+	public static final class Nested<F extends Enum<F> & Field> {
+
+		private final F field;
+		private final String fields;
+
+		private Nested(final F field, final Projection<?> projection) {
+			this.field = field;
+			this.fields = field.getName() + "(" + projection.getFields() + ")";
+		}
+	}
+
+	/**
+	 * The fields of a story.
+	 */
+	public enum StoryField implements Field {
+		ID("id"),
+		TITLE("title"),
+		LENGTH("length"),
+		CREATE_DATE("createDate"),
+		MODIFY_DATE("modifyDate"),
+		VOTE_COUNT("voteCount"),
+		COMMENT_COUNT("commentCount"),
+		LANGUAGE("language"),
+		USER("user"),
+		DESCRIPTION("description"),
+		COVER("cover"),
+		COVER_TIMESTAMP("coverTimestamp"),
+		COMPLETED("completed"),
+		CATEGORIES("categories"),
+		TAGS("tags"),
+		RATING("rating"),
+		MATURE("mature"),
+		COPYRIGHT("copyright"),
+		URL("url"),
+		FIRST_PART_ID("firstPartId"),
+		NUM_PARTS("numParts"),
+		PARTS("parts"),
+		READER_BROWSE_ELIGIBILITY("readerBrowseEligibility"),
+		FIRST_PUBLISHED_PART("firstPublishedPart"),
+		LAST_PUBLISHED_PART("lastPublishedPart"),
+		DELETED("deleted"),
+		READ_COUNT("readCount");
+
+		private final String name;
+
+		StoryField(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Selects some fields of the parts of a story.
+		 *
+		 * @param first the first field of the parts.
+		 * @param more  the other fields of the parts.
+		 * @return the parts with the fields.
+		 */
+		public static Nested<StoryField> parts(final PartField first, final PartField... more) {
+			return new Nested<>(PARTS, Projection.of(first, more));
+		}
+
+		/**
+		 * Selects some fields of the author of a story.
+		 *
+		 * @param first the first field of the author.
+		 * @param more  the other fields of the author.
+		 * @return the author with the fields.
+		 */
+		public static Nested<StoryField> user(final UserField first, final UserField... more) {
+			return new Nested<>(USER, Projection.of(first, more));
+		}
+
+		/**
+		 * Selects some fields of the language of a story.
+		 *
+		 * @param first the first field of the language.
+		 * @param more  the other fields of the language.
+		 * @return the language with the fields.
+		 */
+		public static Nested<StoryField> language(final LanguageField first, final LanguageField... more) {
+			return new Nested<>(LANGUAGE, Projection.of(first, more));
+		}
+	}
+
+	/**
+	 * The fields of a part of a story.
+	 */
+	public enum PartField implements Field {
+		ID("id"),
+		TITLE("title"),
+		URL("url"),
+		RATING("rating"),
+		DRAFT("draft"),
+		MODIFY_DATE("modifyDate"),
+		CREATE_DATE("createDate"),
+		LENGTH("length"),
+		VIDEO_ID("videoId"),
+		PHOTO_URL("photoUrl"),
+		COMMENT_COUNT("commentCount"),
+		VOTE_COUNT("voteCount"),
+		READ_COUNT("readCount");
+
+		private final String name;
+
+		PartField(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+	}
+
+	/**
+	 * The fields of a reading list.
+	 */
+	public enum ListField implements Field {
+		ID("id"),
+		NAME("name"),
+		USER("user"),
+		NUM_STORIES("numStories"),
+		SAMPLE_COVERS("sample_covers"),
+		COVER("cover"),
+		TAGS("tags");
+
+		private final String name;
+
+		ListField(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Selects some fields of the owner of a list.
+		 *
+		 * @param first the first field of the owner.
+		 * @param more  the other fields of the owner.
+		 * @return the owner with the fields.
+		 */
+		public static Nested<ListField> user(final UserField first, final UserField... more) {
+			return new Nested<>(USER, Projection.of(first, more));
+		}
+	}
+
+	/**
+	 * The fields of the author of a story or the owner of a list.
+	 */
+	public enum UserField implements Field {
+		NAME("name"),
+		AVATAR("avatar"),
+		FULLNAME("fullname"),
+		VERIFIED("verified");
+
+		private final String name;
+
+		UserField(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+	}
+
+	/**
+	 * The fields of the language of a story.
+	 */
+	public enum LanguageField implements Field {
+		ID("id"),
+		NAME("name");
+
+		private final String name;
+
+		LanguageField(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+	}
+
+	private final Class<F> type;
+	// the selected fields in declaration order, with their sub-projection
+	private final Map<F, String> selected;
+	private final String fields;
+	private String query;
+
+	private Projection(final Class<F> type, final Map<F, String> selected) {
+		this.type = type;
+		this.selected = selected;
+		this.fields = String.join(",", selected.values());
+	}
+
+	/**
+	 * Create a Projection of some fields.
+	 *
+	 * @param <F>   the field enum of the model.
+	 * @param first the first field.
+	 * @param more  the other fields.
+	 * @return the Projection.
+	 */
+	@SafeVarargs
+	public static <F extends Enum<F> & Field> Projection<F> of(final F first, final F... more) {
+		final Map<F, String> selected = new EnumMap<>(first.getDeclaringClass());
+		selected.put(first, first.getName());
+		for (F field : more) {
+			selected.put(field, field.getName());
+		}
+		return new Projection<>(first.getDeclaringClass(), selected);
+	}
+
+	/**
+	 * Create a Projection of all the fields of a model.
+	 *
+	 * @param <F>  the field enum of the model.
+	 * @param type the class of the field enum.
+	 * @return the Projection.
+	 */
+	public static <F extends Enum<F> & Field> Projection<F> all(final Class<F> type) {
+		final Map<F, String> selected = new EnumMap<>(type);
+		for (F field : type.getEnumConstants()) {
+			selected.put(field, field.getName());
+		}
+		return new Projection<>(type, selected);
+	}
+
+	/**
+	 * Returns a Projection of these fields and some more fields.
+	 *
+	 * @param more the other fields.
+	 * @return the new Projection.
+	 */
+	@SafeVarargs
+	public final Projection<F> with(final F... more) {
+		final Map<F, String> selected = new EnumMap<>(this.selected);
+		for (F field : more) {
+			selected.put(field, field.getName());
+		}
+		return new Projection<>(this.type, selected);
+	}
+
+	/**
+	 * Returns a Projection of these fields and some fields of a nested object, replacing the object as a whole if it
+	 * was selected.
+	 *
+	 * @param nested the nested object with its fields.
+	 * @return the new Projection.
+	 */
+	public Projection<F> with(final Nested<F> nested) {
+		final Map<F, String> selected = new EnumMap<>(this.selected);
+		selected.put(nested.field, nested.fields);
+		return new Projection<>(this.type, selected);
+	}
+
+	/**
+	 * Returns the {@code fields} of the model, like {@code id,modifyDate,parts(id,modifyDate)}.
+	 *
+	 * @return the fields.
+	 */
+	public String getFields() {
+		return this.fields;
+	}
+
+	/**
+	 * Returns the {@code fields} query parameter of a page of the items of the model.
+	 *
+	 * @param item the name of the items in the page, like {@code stories}.
+	 * @return the query parameter, computed once.
+	 */
+	String query(final String item) {
+		String cached = this.query;
+		if (cached == null) {
+			// a projection is only used for one item, so a race computes the same string twice at most
+			cached = WattpadConstants.FIELDS_FUNCTION.apply(item, new String[] { this.fields });
+			this.query = cached;
+		}
+		return cached;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		return o instanceof Projection<?> other && this.type == other.type && this.fields.equals(other.fields);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.type, this.fields);
+	}
+
+	@Override
+	public String toString() {
+		return this.fields;
+	}
+}
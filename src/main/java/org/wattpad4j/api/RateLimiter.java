@@ -0,0 +1,194 @@
+package org.wattpad4j.api;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import lombok.Getter;
+
+/**
+ * A token bucket rate limiter shared by all the calls of a {@link WattpadApi}. Every call takes a token, and tokens are
+ * added at the current rate up to a burst.
+ * <p>
+ * The rate adapts to the responses of Wattpad: it is halved on {@code 429 Too Many Requests} and
+ * {@code 503 Service Unavailable}, down to a minimum rate, and increases additively on every other response, up to
+ * the maximum rate. When Wattpad sends a {@code Retry-After} header, no tokens are handed out until that time has
+ * passed.
+ */
+public class RateLimiter {
+
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final int SERVICE_UNAVAILABLE = 503;
+
+	// the rate recovers from the minimum rate to the maximum rate in this amount of successful calls
+	private static final int RECOVERY_CALLS = 100;
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * The maximum amount of calls per second.
+	 */
+	@Getter
+	private final double maxRate;
+
+	/**
+	 * The minimum amount of calls per second, the rate never shrinks below this.
+	 */
+	@Getter
+	private final double minRate;
+
+	/**
+	 * The maximum amount of calls that can be made at once after a quiet period.
+	 */
+	@Getter
+	private final int burst;
+
+	private final LongSupplier nanoTime;
+
+	private double rate;
+	private double tokens;
+	private long lastRefill;
+	private long blockedUntil;
+
+	/**
+	 * The amount of responses that asked to slow down.
+	 */
+	@Getter
+	private volatile long throttled;
+
+	/**
+	 * Create a RateLimiter allowing a maximum amount of calls per second, a burst of one second worth of calls, and a
+	 * minimum rate of one call per second.
+	 *
+	 * @param maxRate maximum amount of calls per second.
+	 */
+	public RateLimiter(final double maxRate) {
+		this(maxRate, Math.min(1, maxRate), (int) Math.max(1, Math.ceil(maxRate)));
+	}
+
+	/**
+	 * Create a RateLimiter.
+	 *
+	 * @param maxRate maximum amount of calls per second.
+	 * @param minRate minimum amount of calls per second, the rate never shrinks below this.
+	 * @param burst   maximum amount of calls that can be made at once after a quiet period.
+	 */
+	public RateLimiter(final double maxRate, final double minRate, final int burst) {
+		this(maxRate, minRate, burst, System::nanoTime);
+	}
+
+	/**
+	 * Create a RateLimiter with a custom clock, for testing.
+	 */
+	RateLimiter(final double maxRate, final double minRate, final int burst, final LongSupplier nanoTime) {
+		if (minRate <= 0 || maxRate < minRate) {
+			throw new IllegalArgumentException("rates must be positive, and maxRate at least minRate");
+		}
+		if (burst <= 0) {
+			throw new IllegalArgumentException("burst must be positive");
+		}
+		this.maxRate = maxRate;
+		this.minRate = minRate;
+		this.burst = burst;
+		this.nanoTime = nanoTime;
+		this.rate = maxRate;
+		this.tokens = burst;
+		this.lastRefill = nanoTime.getAsLong();
+		this.blockedUntil = this.lastRefill;
+	}
+
+	/**
+	 * Returns the current amount of calls per second.
+	 *
+	 * @return the current rate.
+	 */
+	public synchronized double getRate() {
+		return this.rate;
+	}
+
+	/**
+	 * Waits until a call can be made.
+	 *
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public void acquire() throws InterruptedException {
+		long wait;
+		while ((wait = tryAcquire()) > 0) {
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+
+	/**
+	 * Takes a token if one is available.
+	 *
+	 * @return 0 if a token was taken, otherwise the nanoseconds to wait before trying again.
+	 */
+	synchronized long tryAcquire() {
+		final long now = this.nanoTime.getAsLong();
+		if (now - this.blockedUntil < 0) {
+			return this.blockedUntil - now;
+		}
+		refill(now);
+		if (this.tokens >= 1) {
+			this.tokens--;
+			return 0;
+		}
+		return Math.max(1, (long) Math.ceil((1 - this.tokens) / this.rate * NANOS_PER_SECOND));
+	}
+
+	/**
+	 * Adapts the rate to the status and {@code Retry-After} header of a response.
+	 *
+	 * @param status     the HTTP status of the response.
+	 * @param retryAfter the {@code Retry-After} header of the response, or null.
+	 */
+	synchronized void onResponse(final int status, final String retryAfter) {
+		final long now = this.nanoTime.getAsLong();
+		refill(now);
+		if (status == TOO_MANY_REQUESTS || status == SERVICE_UNAVAILABLE) {
+			this.throttled++;
+			this.rate = Math.max(this.minRate, this.rate / 2);
+			this.tokens = Math.min(this.tokens, 0);
+			final Duration delay = parseRetryAfter(retryAfter);
+			if (delay != null && now + delay.toNanos() - this.blockedUntil > 0) {
+				this.blockedUntil = now + delay.toNanos();
+			}
+		} else if (status < 500) {
+			this.rate = Math.min(this.maxRate, this.rate + (this.maxRate - this.minRate) / RECOVERY_CALLS);
+		}
+	}
+
+	private void refill(final long now) {
+		final long elapsed = now - this.lastRefill;
+		if (elapsed > 0) {
+			this.tokens = Math.min(this.burst, this.tokens + elapsed * this.rate / NANOS_PER_SECOND);
+			this.lastRefill = now;
+		}
+	}
+
+	/**
+	 * Parses a {@code Retry-After} header, either in seconds or as an HTTP date.
+	 *
+	 * @return the time to wait, or null if the header is missing or invalid.
+	 */
+	static Duration parseRetryAfter(final String retryAfter) {
+		if (retryAfter == null || retryAfter.isBlank()) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+		} catch (NumberFormatException e) {
+			// not in seconds, try an HTTP date
+		}
+		try {
+			final Duration delay = Duration.between(ZonedDateTime.now(),
+			        ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+			return delay.isNegative() ? Duration.ZERO : delay;
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package org.wattpad4j.api;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.Getter;
+
+/**
+ * A bounded, least recently used cache of deserialized responses and their validators ({@code ETag} and
+ * {@code Last-Modified}). When a {@link WattpadApi} has a ResponseCache, it sends the validators of a cached response
+ * as {@code If-None-Match} and {@code If-Modified-Since}, and serves the cached object when Wattpad answers
+ * {@code 304 Not Modified}.
+ * <p>
+ * The cache is bounded by the total size of the cached response bodies, which is used as an estimate of the memory the
+ * deserialized objects take. The least recently used responses are evicted first.
+ * <p>
+ * The cached objects are handed out as is, so they should not be modified.
+ */
+public class ResponseCache {
+
+	private final long maxBytes;
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The total size of the cached response bodies.
+	 */
+	@Getter
+	private volatile long bytes;
+
+	/**
+	 * The amount of requests served from the cache because Wattpad answered Not Modified.
+	 */
+	@Getter
+	private volatile long hits;
+
+	/**
+	 * The amount of requests for which Wattpad sent a full response.
+	 */
+	@Getter
+	private volatile long misses;
+
+	/**
+	 * The amount of responses evicted to keep the cache within its maximum size.
+	 */
+	@Getter
+	private volatile long evictions;
+
+	/**
+	 * Create a ResponseCache holding responses up to a total size.
+	 *
+	 * @param maxBytes maximum total size of the cached response bodies.
+	 */
+	public ResponseCache(final long maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("maxBytes must be positive");
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the amount of cached responses.
+	 *
+	 * @return the amount of cached responses.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Removes all the cached responses.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+		this.bytes = 0;
+	}
+
+	/**
+	 * Creates the key of a request, independent of the order of the query parameters.
+	 */
+	static String key(final URL url, final Map<String, String> queryParams) {
+		if (queryParams == null || queryParams.isEmpty()) {
+			return url.toExternalForm();
+		}
+		return url.toExternalForm() + "?" + new TreeMap<>(queryParams);
+	}
+
+	/**
+	 * Gets the cached response of a request, if it was read as the same type.
+	 */
+	synchronized Entry get(final String key, final Class<?> type) {
+		final Entry entry = this.entries.get(key);
+		return entry != null && type.isInstance(entry.value()) ? entry : null;
+	}
+
+	/**
+	 * Registers that a cached response was still valid.
+	 */
+	synchronized void hit() {
+		this.hits++;
+	}
+
+	/**
+	 * Registers that a full response was received.
+	 */
+	synchronized void miss() {
+		this.misses++;
+	}
+
+	/**
+	 * Caches a response, evicting the least recently used responses when the cache grows too big.
+	 */
+	synchronized void put(final String key, final Entry entry) {
+		final Entry previous = this.entries.remove(key);
+		if (previous != null) {
+			this.bytes -= previous.bytes();
+		}
+		if (entry.bytes() > this.maxBytes) {
+			return;
+		}
+		this.entries.put(key, entry);
+		this.bytes += entry.bytes();
+
+		final Iterator<Entry> eldest = this.entries.values().iterator();
+		while (this.bytes > this.maxBytes && eldest.hasNext()) {
+			this.bytes -= eldest.next().bytes();
+			eldest.remove();
+			this.evictions++;
+		}
+	}
+
+	/**
+	 * A cached response.
+	 *
+	 * @param etag         the ETag of the response, or null.
+	 * @param lastModified the Last-Modified of the response, or null.
+	 * @param value        the deserialized response.
+	 * @param bytes        the size of the response body.
+	 */
+	record Entry(String etag, String lastModified, Object value, long bytes) {
+	}
+}
@@ -0,0 +1,127 @@
+package org.wattpad4j.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Policy for retrying the calls of a {@link WattpadApi}. All calls are idempotent GETs, so they are safe to retry.
+ * <p>
+ * A call is retried when the response has one of the {@code retryableStatuses}, or when it fails with one of the
+ * {@code retryableExceptions} (or an exception caused by one), until {@code maxAttempts} is reached. The backoff
+ * between attempts grows exponentially from {@code initialBackoff} up to {@code maxBackoff}, and is reduced by a random
+ * part of up to {@code jitter} so that clients that failed together do not retry together.
+ * <p>
+ * When a {@code hedgeDelay} is set, every attempt that has not been answered within that delay is hedged: a second
+ * request is sent, and whichever answers first is used. The delay is typically set to the p95 latency of the calls, so
+ * that only the slowest calls are hedged.
+ */
+@Getter
+@Builder
+public class RetryPolicy {
+
+	/**
+	 * Maximum amount of attempts of a call, including the first one.
+	 */
+	@Builder.Default
+	private final int maxAttempts = WattpadConstants.DEFAULT_RETRY_ATTEMPTS;
+
+	/**
+	 * Backoff before the first retry.
+	 */
+	@Builder.Default
+	private final Duration initialBackoff = WattpadConstants.DEFAULT_RETRY_INITIAL_BACKOFF;
+
+	/**
+	 * Maximum backoff between attempts.
+	 */
+	@Builder.Default
+	private final Duration maxBackoff = WattpadConstants.DEFAULT_RETRY_MAX_BACKOFF;
+
+	/**
+	 * Factor the backoff grows with after every attempt.
+	 */
+	@Builder.Default
+	private final double multiplier = 2;
+
+	/**
+	 * Part of the backoff, between 0 and 1, that is randomly taken off.
+	 */
+	@Builder.Default
+	private final double jitter = 0.5;
+
+	/**
+	 * HTTP statuses of responses that are retried.
+	 */
+	@Builder.Default
+	private final Set<Integer> retryableStatuses = Set.of(429, 502, 503, 504);
+
+	/**
+	 * Exceptions that are retried, also when they are the cause of the exception thrown by the client.
+	 */
+	@Builder.Default
+	private final List<Class<? extends Throwable>> retryableExceptions = List.of(IOException.class);
+
+	/**
+	 * Delay after which an unanswered attempt is hedged with a second request. Defaults to null, not hedging.
+	 */
+	@Builder.Default
+	private final Duration hedgeDelay = null;
+
+	/**
+	 * Create a RetryPolicy with the default settings.
+	 *
+	 * @return the default RetryPolicy.
+	 */
+	public static RetryPolicy defaults() {
+		return RetryPolicy.builder().build();
+	}
+
+	/**
+	 * Returns whether a response with the HTTP status is retried.
+	 *
+	 * @param status the HTTP status of the response.
+	 * @return true if the status is retryable, otherwise returns false.
+	 */
+	public boolean isRetryable(final int status) {
+		return this.retryableStatuses.contains(status);
+	}
+
+	/**
+	 * Returns whether an exception, or one of its causes, is retried.
+	 *
+	 * @param thrown the exception thrown by the call.
+	 * @return true if the exception is retryable, otherwise returns false.
+	 */
+	public boolean isRetryable(final Throwable thrown) {
+		for (Throwable cause = thrown; cause != null; cause = cause.getCause()) {
+			for (Class<? extends Throwable> retryable : this.retryableExceptions) {
+				if (retryable.isInstance(cause)) {
+					return true;
+				}
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the backoff after an attempt, including jitter.
+	 *
+	 * @param attempt the attempt that failed, starting at 1.
+	 * @return the time to wait before the next attempt.
+	 */
+	public Duration backoff(final int attempt) {
+		final double exponential = this.initialBackoff.toNanos() * Math.pow(this.multiplier, attempt - 1);
+		final double capped = Math.min(exponential, this.maxBackoff.toNanos());
+		final double jittered = capped * (1 - this.jitter * ThreadLocalRandom.current().nextDouble());
+		return Duration.ofNanos((long) jittered);
+	}
+}
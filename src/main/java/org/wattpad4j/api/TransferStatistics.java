@@ -0,0 +1,148 @@
+package org.wattpad4j.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Counters of the response bodies read by a {@link WattpadApi}: the bytes received over the wire, which are compressed
+ * when Wattpad honours {@code Accept-Encoding}, and the bytes after decompression that were parsed.
+ * <p>
+ * Bodies are counted as far as they were read, which is up to the end of the JSON document.
+ */
+public class TransferStatistics {
+
+	static final String ACCEPT_ENCODING = "gzip, deflate";
+
+	private final LongAdder responses = new LongAdder();
+	private final LongAdder compressedResponses = new LongAdder();
+	private final LongAdder wireBytes = new LongAdder();
+	private final LongAdder decodedBytes = new LongAdder();
+
+	/**
+	 * Returns the amount of response bodies read.
+	 *
+	 * @return the amount of response bodies read.
+	 */
+	public long getResponses() {
+		return this.responses.sum();
+	}
+
+	/**
+	 * Returns the amount of response bodies that were compressed.
+	 *
+	 * @return the amount of compressed response bodies.
+	 */
+	public long getCompressedResponses() {
+		return this.compressedResponses.sum();
+	}
+
+	/**
+	 * Returns the amount of bytes received over the wire.
+	 *
+	 * @return the amount of bytes received over the wire.
+	 */
+	public long getWireBytes() {
+		return this.wireBytes.sum();
+	}
+
+	/**
+	 * Returns the amount of bytes after decompression.
+	 *
+	 * @return the amount of decoded bytes.
+	 */
+	public long getDecodedBytes() {
+		return this.decodedBytes.sum();
+	}
+
+	/**
+	 * Returns the part of the decoded bytes that did not have to be sent thanks to compression.
+	 *
+	 * @return the saving, between 0 and 1; 0 if nothing was read.
+	 */
+	public double getSaving() {
+		final long decoded = getDecodedBytes();
+		return decoded == 0 ? 0 : 1 - (double) getWireBytes() / decoded;
+	}
+
+	/**
+	 * Resets all the counters.
+	 */
+	public void reset() {
+		this.responses.reset();
+		this.compressedResponses.reset();
+		this.wireBytes.reset();
+		this.decodedBytes.reset();
+	}
+
+	/**
+	 * Wraps a response body in a stream that decompresses it according to its {@code Content-Encoding}, without
+	 * buffering the whole body, and counts the bytes when it is closed.
+	 *
+	 * @param body            the response body as received over the wire.
+	 * @param contentEncoding the {@code Content-Encoding} of the response, or null.
+	 * @return the decoded response body.
+	 * @throws IOException if the compressed body cannot be read.
+	 */
+	InputStream decode(final InputStream body, final String contentEncoding) throws IOException {
+		if (body == null) {
+			throw new IOException("Response has no body");
+		}
+		final CountingInputStream wire = new CountingInputStream(body);
+		final String encoding = contentEncoding == null ? "" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+		final InputStream decoded = switch (encoding) {
+		case "gzip", "x-gzip" -> new GZIPInputStream(wire);
+		case "deflate" -> inflate(wire);
+		default -> wire;
+		};
+		return new CountingInputStream(decoded) {
+
+			private boolean closed;
+
+			@Override
+			public void close() throws IOException {
+				if (this.closed) {
+					return;
+				}
+				this.closed = true;
+				try {
+					super.close();
+				} finally {
+					TransferStatistics.this.responses.increment();
+					if (decoded != wire) {
+						TransferStatistics.this.compressedResponses.increment();
+					}
+					TransferStatistics.this.wireBytes.add(wire.getCount());
+					TransferStatistics.this.decodedBytes.add(getCount());
+				}
+			}
+		};
+	}
+
+	/**
+	 * Inflates a deflate body, which should be zlib wrapped but is sent as raw deflate data by some servers.
+	 */
+	private static InputStream inflate(final InputStream wire) throws IOException {
+		final PushbackInputStream header = new PushbackInputStream(wire, 2);
+		final byte[] peek = header.readNBytes(2);
+		header.unread(peek);
+		final boolean zlib = peek.length == 2 && (peek[0] & 0x0f) == 8
+		        && (((peek[0] & 0xff) << 8) | (peek[1] & 0xff)) % 31 == 0;
+		return new InflaterInputStream(header, new Inflater(!zlib)) {
+
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					this.inf.end();
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,54 @@
+package org.wattpad4j.api;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * The HTTP engine beneath {@link WattpadApi}, sending the GET calls to Wattpad. The retries, rate limiting, caching and
+ * parsing of the responses all happen in WattpadApi, so a Transport only has to send a request and hand back the
+ * response as it was received.
+ * <p>
+ * {@link JerseyTransport} is the default; {@link HttpClientTransport} is a lightweight alternative on
+ * {@code java.net.http} with HTTP/2.
+ */
+public interface Transport extends AutoCloseable {
+
+	/**
+	 * Sends an HTTP GET call.
+	 *
+	 * @param url         the URL of the Wattpad API endpoint, without query.
+	 * @param queryParams the query parameters, may be null.
+	 * @param headers     the request headers.
+	 * @param timeout     the maximum time to wait for the response, overriding the default read timeout of the
+	 *                    transport; null for the default.
+	 * @return the response, which must be closed by the caller.
+	 * @throws IOException          if the call fails before a response is received.
+	 * @throws InterruptedException if interrupted while waiting for the response.
+	 */
+	TransportResponse get(URL url, Map<String, String> queryParams, Map<String, String> headers,
+	        @Nullable Duration timeout) throws IOException, InterruptedException;
+
+	/**
+	 * Sends an HTTP GET call asynchronously.
+	 *
+	 * @param url         the URL of the Wattpad API endpoint, without query.
+	 * @param queryParams the query parameters, may be null.
+	 * @param headers     the request headers.
+	 * @param timeout     the maximum time to wait for the response, overriding the default read timeout of the
+	 *                    transport; null for the default.
+	 * @return a future of the response, which must be closed by the caller.
+	 */
+	CompletableFuture<TransportResponse> getAsync(URL url, Map<String, String> queryParams,
+	        Map<String, String> headers, @Nullable Duration timeout);
+
+	/**
+	 * Releases the connections and threads of this Transport.
+	 */
+	@Override
+	void close();
+}
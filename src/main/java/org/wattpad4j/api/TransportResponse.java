@@ -0,0 +1,45 @@
+package org.wattpad4j.api;
+
+import java.io.InputStream;
+
+/**
+ * A response received by a {@link Transport}, with its body as received over the wire.
+ */
+public interface TransportResponse extends AutoCloseable {
+
+	/**
+	 * Returns the HTTP status of the response.
+	 *
+	 * @return the HTTP status.
+	 */
+	int getStatus();
+
+	/**
+	 * Returns the reason phrase of the HTTP status.
+	 *
+	 * @return the reason phrase, or null if unknown.
+	 */
+	String getReasonPhrase();
+
+	/**
+	 * Returns a header of the response. When the header is present more than once, the values are joined with a
+	 * comma.
+	 *
+	 * @param name the case insensitive name of the header.
+	 * @return the value of the header, or null if it is absent.
+	 */
+	String getHeader(String name);
+
+	/**
+	 * Returns the body of the response, still encoded as indicated by its {@code Content-Encoding}.
+	 *
+	 * @return the body of the response, or null if there is none.
+	 */
+	InputStream getBody();
+
+	/**
+	 * Closes the response, releasing its connection.
+	 */
+	@Override
+	void close();
+}
@@ -0,0 +1,264 @@
+package org.wattpad4j.api;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.wattpad4j.models.WattpadUser;
+
+import lombok.Getter;
+
+/**
+ * A bounded, in-memory cache of users in front of {@link WattpadApi#getUser(String)} and
+ * {@link WattpadApi#getUserAsync(String)}. Users expire a fixed time after they were retrieved, and the least recently
+ * used users are evicted when the cache is full.
+ * <p>
+ * Concurrent misses for the same username collapse into a single call to Wattpad, whose result, or failure, is shared
+ * by all the callers waiting for it. Failures are not cached.
+ * <p>
+ * The cached users are handed out as is, so they should not be modified.
+ */
+public class UserCache {
+
+	private final int maxEntries;
+	private final long ttlNanos;
+	private final LongSupplier nanoTime;
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, CompletableFuture<WattpadUser>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * The amount of users served from the cache, or from a call that was already in flight.
+	 */
+	@Getter
+	private volatile long hits;
+
+	/**
+	 * The amount of users that had to be retrieved from Wattpad.
+	 */
+	@Getter
+	private volatile long misses;
+
+	/**
+	 * The amount of users removed from the cache because they expired or the cache was full.
+	 */
+	@Getter
+	private volatile long evictions;
+
+	/**
+	 * Create a UserCache.
+	 *
+	 * @param ttl        time a user is cached after it was retrieved.
+	 * @param maxEntries maximum amount of cached users.
+	 */
+	public UserCache(final Duration ttl, final int maxEntries) {
+		this(ttl, maxEntries, System::nanoTime);
+	}
+
+	/**
+	 * Create a UserCache with a custom clock, for testing.
+	 */
+	UserCache(final Duration ttl, final int maxEntries, final LongSupplier nanoTime) {
+		if (ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("ttl must be positive");
+		}
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries must be positive");
+		}
+		this.ttlNanos = ttl.toNanos();
+		this.maxEntries = maxEntries;
+		this.nanoTime = nanoTime;
+	}
+
+	/**
+	 * Returns the amount of cached users, including the expired users that were not evicted yet.
+	 *
+	 * @return the amount of cached users.
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Removes all the cached users.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Removes a user from the cache.
+	 *
+	 * @param userName username of the user.
+	 */
+	public synchronized void invalidate(final String userName) {
+		this.entries.remove(userName);
+	}
+
+	/**
+	 * Gets a user from the cache, or loads it on the calling thread. Callers that miss while the user is being loaded
+	 * wait for that load instead.
+	 */
+	WattpadUser get(final String userName, final Loader loader) throws WattpadApiException {
+		final WattpadUser cached = cached(userName);
+		if (cached != null) {
+			return cached;
+		}
+
+		final CompletableFuture<WattpadUser> load = new CompletableFuture<>();
+		final CompletableFuture<WattpadUser> running = this.inFlight.putIfAbsent(userName, load);
+		if (running != null) {
+			hit();
+			return await(running);
+		}
+		try {
+			final WattpadUser user = loadOnce(userName, loader);
+			load.complete(user);
+			return user;
+		} catch (WattpadApiException | RuntimeException e) {
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.inFlight.remove(userName, load);
+		}
+	}
+
+	/**
+	 * Gets a user from the cache, or starts loading it. Callers that miss while the user is being loaded share that
+	 * load instead.
+	 */
+	CompletableFuture<WattpadUser> getAsync(final String userName,
+	        final Supplier<CompletableFuture<WattpadUser>> loader) {
+		final WattpadUser cached = cached(userName);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		final CompletableFuture<WattpadUser> load = new CompletableFuture<>();
+		final CompletableFuture<WattpadUser> running = this.inFlight.putIfAbsent(userName, load);
+		if (running != null) {
+			hit();
+			return running.copy();
+		}
+		final WattpadUser loaded = cached(userName);
+		final CompletableFuture<WattpadUser> user = loaded != null ? CompletableFuture.completedFuture(loaded)
+		        : loadAsync(userName, loader);
+		user.whenComplete((result, thrown) -> {
+			this.inFlight.remove(userName, load);
+			if (thrown != null) {
+				load.completeExceptionally(
+				        thrown instanceof CompletionException && thrown.getCause() != null ? thrown.getCause() : thrown);
+			} else {
+				load.complete(result);
+			}
+		});
+		return load.copy();
+	}
+
+	/**
+	 * Loads a user, unless another caller cached it between the first lookup and claiming the load.
+	 */
+	private WattpadUser loadOnce(final String userName, final Loader loader) throws WattpadApiException {
+		final WattpadUser loaded = cached(userName);
+		if (loaded != null) {
+			return loaded;
+		}
+		miss();
+		final WattpadUser user = loader.load();
+		put(userName, user);
+		return user;
+	}
+
+	private CompletableFuture<WattpadUser> loadAsync(final String userName,
+	        final Supplier<CompletableFuture<WattpadUser>> loader) {
+		miss();
+		return loader.get().thenApply(user -> {
+			put(userName, user);
+			return user;
+		});
+	}
+
+	/**
+	 * Gets a user that has not expired yet, counting it as a hit.
+	 */
+	private synchronized WattpadUser cached(final String userName) {
+		final Entry entry = this.entries.get(userName);
+		if (entry == null) {
+			return null;
+		}
+		if (this.nanoTime.getAsLong() - entry.expiresAt() >= 0) {
+			this.entries.remove(userName);
+			this.evictions++;
+			return null;
+		}
+		this.hits++;
+		return entry.user();
+	}
+
+	/**
+	 * Caches a user, evicting expired users first and then the least recently used users when the cache is full.
+	 */
+	private synchronized void put(final String userName, final WattpadUser user) {
+		final long now = this.nanoTime.getAsLong();
+		this.entries.put(userName, new Entry(user, now + this.ttlNanos));
+		if (this.entries.size() <= this.maxEntries) {
+			return;
+		}
+
+		final Iterator<Entry> expired = this.entries.values().iterator();
+		while (expired.hasNext()) {
+			if (now - expired.next().expiresAt() >= 0) {
+				expired.remove();
+				this.evictions++;
+			}
+		}
+		final Iterator<Entry> eldest = this.entries.values().iterator();
+		while (this.entries.size() > this.maxEntries && eldest.hasNext()) {
+			eldest.next();
+			eldest.remove();
+			this.evictions++;
+		}
+	}
+
+	private synchronized void hit() {
+		this.hits++;
+	}
+
+	private synchronized void miss() {
+		this.misses++;
+	}
+
+	private static WattpadUser await(final CompletableFuture<WattpadUser> user) throws WattpadApiException {
+		try {
+			return user.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof WattpadApiException wattpadApiException) {
+				throw wattpadApiException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new WattpadApiException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new WattpadApiException(e);
+		}
+	}
+
+	/**
+	 * Retrieves a user from Wattpad.
+	 */
+	@FunctionalInterface
+	interface Loader {
+		WattpadUser load() throws WattpadApiException;
+	}
+
+	private record Entry(WattpadUser user, long expiresAt) {
+	}
+}
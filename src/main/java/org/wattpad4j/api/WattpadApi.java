@@ -2,31 +2,62 @@ package org.wattpad4j.api;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URL;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
-import org.glassfish.jersey.client.ClientConfig;
-import org.glassfish.jersey.client.ClientProperties;
-import org.glassfish.jersey.client.JerseyClientBuilder;
-import org.glassfish.jersey.jackson.JacksonFeature;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.wattpad4j.api.Projection.ListField;
+import org.wattpad4j.api.Projection.StoryField;
+import org.wattpad4j.models.CompactStory;
 import org.wattpad4j.models.WattpadError;
+import org.wattpad4j.models.WattpadList;
 import org.wattpad4j.models.WattpadLists;
 import org.wattpad4j.models.WattpadStories;
+import org.wattpad4j.models.WattpadStory;
 import org.wattpad4j.models.WattpadUser;
+import org.wattpad4j.util.Canonicalizer;
+import org.wattpad4j.util.EncodedTags;
+import org.wattpad4j.util.IntList;
 import org.wattpad4j.util.JacksonJson;
+import org.wattpad4j.util.TagDictionary;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.ws.rs.client.Client;
-import jakarta.ws.rs.client.ClientBuilder;
-import jakarta.ws.rs.client.Invocation;
-import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import lombok.Getter;
 import lombok.Setter;
 
 /**
@@ -36,30 +67,188 @@ import lombok.Setter;
  * "https://github.com/gitlab4j/gitlab4j-api/blob/main/gitlab4j-api/src/main/java/org/gitlab4j/api/AbstractApi.java">Wattpad4J&trade;</a>
  * and adapted to use in this project.
  */
-public class WattpadApi {
+public class WattpadApi implements AutoCloseable {
+
+	// the fields query parameters of the defaults, computed once
+	private static final String STORY_ALL_QUERY = WattpadConstants.FIELDS_FUNCTION.apply("stories",
+	        WattpadConstants.STORY_ALL_FIELDS);
+	private static final String STORY_NO_PART_QUERY = WattpadConstants.FIELDS_FUNCTION.apply("stories",
+	        WattpadConstants.STORY_NO_PART_FIELDS);
+	private static final String LIST_ALL_QUERY = WattpadConstants.FIELDS_FUNCTION.apply("lists",
+	        WattpadConstants.LIST_ALL_FIELDS);
 
 	private final String baseUrl;
 
+	/**
+	 * The HTTP engine sending the calls. Defaults to a {@link JerseyTransport}.
+	 */
+	@Setter
+	private Transport transport;
+
+	/**
+	 * Maximum amount of pages fetched at the same time by the methods that return all the items of a user. Defaults
+	 * to 1, fetching the pages one by one.
+	 */
+	@Setter
+	private int pageConcurrency = 1;
+
+	/**
+	 * Cache of responses that are revalidated with conditional requests. Defaults to null, not caching responses.
+	 */
+	@Setter
+	private ResponseCache responseCache;
+
+	/**
+	 * Cache of users in front of {@link #getUser(String)} and {@link #getUserAsync(String)}. Defaults to null, not
+	 * caching users.
+	 */
+	@Setter
+	private UserCache userCache;
+
+	/**
+	 * Rate limiter shared by all the calls of this WattpadApi. Defaults to null, not limiting the calls.
+	 */
+	@Setter
+	private RateLimiter rateLimiter;
+
+	/**
+	 * Policy for retrying and hedging failed or slow calls. Defaults to null, not retrying calls.
+	 */
+	@Setter
+	private RetryPolicy retryPolicy;
+
+	/**
+	 * Circuit breaker that rejects calls while Wattpad is degraded. Defaults to null, not rejecting calls.
+	 */
+	@Setter
+	private CircuitBreaker circuitBreaker;
+
+	/**
+	 * Timeout of every call, including its retries and, for the methods that return all the items of a user, all its
+	 * pages. The read timeout of a request is shortened to the time that is left. Defaults to null, only limiting each
+	 * request by the connect and read timeouts of the transport.
+	 */
+	@Setter
+	private Duration callTimeout;
+
+	/**
+	 * Adaptive sizing of the pages fetched by the methods that do not take a limit, learning the largest limit Wattpad
+	 * honours. Defaults to null, fetching {@value WattpadConstants#DEFAULT_LIMIT} items per page.
+	 */
 	@Setter
-	private Client apiClient;
+	private AdaptivePaging adaptivePaging;
 
+	/**
+	 * Pool of canonical tags, authors and languages the responses are read with, so that the values that repeat
+	 * across responses are only held once. Defaults to null, reading every value as a new instance.
+	 */
+	@Setter
+	private Canonicalizer canonicalizer;
+
+	/**
+	 * Dictionary the tags are encoded with, storing the tags of stories and lists as {@link EncodedTags} and the
+	 * categories of stories as an {@link IntList}. Defaults to null, reading them as lists of objects.
+	 */
+	@Setter
+	private TagDictionary tagDictionary;
+
+	/**
+	 * Counters of the bytes received over the wire and after decompression.
+	 */
+	@Getter
+	private final TransferStatistics transferStatistics = new TransferStatistics();
+
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+
+	/**
+	 * Create a WattpadApi instance with the default connection pool settings.
+	 */
 	@SuppressWarnings("unused")
 	public WattpadApi() {
-		this.baseUrl = WattpadConstants.BASE_URL;
-		final ClientConfig clientConfig = new ClientConfig();
+		this(ConnectionPoolConfig.defaults());
+	}
+
+	/**
+	 * Create a WattpadApi instance that communicates through a pooled, keep-alive Apache 5 connector.
+	 *
+	 * @param poolConfig the configuration of the connection pool.
+	 */
+	public WattpadApi(@Nonnull final ConnectionPoolConfig poolConfig) {
+		this(poolConfig, null);
+	}
 
-		clientConfig.property(ClientProperties.FEATURE_AUTO_DISCOVERY_DISABLE, true);
-		clientConfig.property(ClientProperties.METAINF_SERVICES_LOOKUP_DISABLE, true);
+	/**
+	 * Create a WattpadApi instance that communicates through a pooled, keep-alive Apache 5 connector, and runs the
+	 * asynchronous calls on the given executor.
+	 *
+	 * @param poolConfig the configuration of the connection pool.
+	 * @param executor   the executor to run the asynchronous calls on; the caller stays responsible for shutting it
+	 *                   down. When null, the asynchronous calls run on virtual threads.
+	 */
+	public WattpadApi(@Nonnull final ConnectionPoolConfig poolConfig, @Nullable final ExecutorService executor) {
+		this(asyncExecutor -> new JerseyTransport(poolConfig, asyncExecutor), executor);
+	}
 
-		clientConfig.register(JacksonJson.class);
-		clientConfig.register(JacksonFeature.class);
+	/**
+	 * Create a WattpadApi instance that communicates through the given transport, e.g. an {@link HttpClientTransport}.
+	 *
+	 * @param transport the transport sending the calls; it is closed when this WattpadApi is closed.
+	 */
+	public WattpadApi(@Nonnull final Transport transport) {
+		this(transport, null);
+	}
 
-		final ClientBuilder clientBuilder = new JerseyClientBuilder().withConfig(clientConfig);
+	/**
+	 * Create a WattpadApi instance that communicates through the given transport, and runs the asynchronous calls on
+	 * the given executor.
+	 *
+	 * @param transport the transport sending the calls; it is closed when this WattpadApi is closed.
+	 * @param executor  the executor to run the asynchronous calls on; the caller stays responsible for shutting it
+	 *                  down. When null, the asynchronous calls run on virtual threads.
+	 */
+	public WattpadApi(@Nonnull final Transport transport, @Nullable final ExecutorService executor) {
+		this(asyncExecutor -> transport, executor);
+	}
+
+	private WattpadApi(final Function<ExecutorService, Transport> transportFactory,
+	        final ExecutorService executor) {
+		this.baseUrl = WattpadConstants.BASE_URL;
+		this.ownsExecutor = executor == null;
+		this.executor = this.ownsExecutor
+		        ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("wattpad-async-", 0).factory())
+		        : executor;
+		this.transport = transportFactory.apply(this.executor);
+	}
 
-		clientBuilder.register(JacksonJson.class);
-		clientBuilder.register(JacksonFeature.class);
+	/**
+	 * Sends the calls through a Jersey client, e.g. a client with custom filters.
+	 *
+	 * @param apiClient the Jersey client.
+	 */
+	public void setApiClient(@Nonnull final Client apiClient) {
+		this.transport = new JerseyTransport(apiClient);
+	}
+
+	/**
+	 * Closes the underlying transport, releasing all the pooled connections.
+	 */
+	@Override
+	public void close() {
+		this.transport.close();
+		if (this.ownsExecutor) {
+			this.executor.shutdown();
+		}
+	}
 
-		this.apiClient = clientBuilder.build();
+	/**
+	 * Creates the deadline of a new call from the call timeout.
+	 *
+	 * @return the deadline, or null if there is no call timeout.
+	 */
+	Deadline newDeadline() {
+		final Duration timeout = this.callTimeout;
+		return timeout == null ? null : Deadline.after(timeout);
 	}
 
 	/**
@@ -70,7 +259,7 @@ public class WattpadApi {
 	 * @throws WattpadApiException if any error occurs.
 	 */
 	public WattpadStories getStories(@Nonnull final String userName) throws WattpadApiException {
-		return getStories(userName, WattpadConstants.DEFAULT_LIMIT).all();
+		return storiesPager(userName, this.adaptivePaging, newDeadline(), STORY_ALL_QUERY).all(this.pageConcurrency);
 	}
 
 	/**
@@ -83,7 +272,8 @@ public class WattpadApi {
 	 */
 	public WattpadStories getStories(@Nonnull final String userName, final boolean includeParts)
 	        throws WattpadApiException {
-		return getStories(userName, WattpadConstants.DEFAULT_LIMIT, includeParts).all();
+		return storiesPager(userName, this.adaptivePaging, newDeadline(),
+		        includeParts ? STORY_ALL_QUERY : STORY_NO_PART_QUERY).all(this.pageConcurrency);
 	}
 
 	/**
@@ -97,8 +287,7 @@ public class WattpadApi {
 	 */
 	public Pager<WattpadStories> getStories(@Nonnull final String userName, final int limit, final boolean includeParts)
 	        throws WattpadApiException {
-		return getStories(userName, limit,
-		        includeParts ? WattpadConstants.STORY_ALL_FIELDS : WattpadConstants.STORY_NO_PART_FIELDS);
+		return storiesPager(userName, limit, newDeadline(), includeParts ? STORY_ALL_QUERY : STORY_NO_PART_QUERY);
 	}
 
 	/**
@@ -111,7 +300,8 @@ public class WattpadApi {
 	 */
 	public WattpadStories getStories(@Nonnull final String userName, @Nullable final String... fields)
 	        throws WattpadApiException {
-		return getStories(userName, WattpadConstants.DEFAULT_LIMIT, fields).all();
+		return storiesPager(userName, this.adaptivePaging, newDeadline(), storiesQuery(fields))
+		        .all(this.pageConcurrency);
 	}
 
 	/**
@@ -127,12 +317,255 @@ public class WattpadApi {
 	public Pager<WattpadStories> getStories(@Nonnull final String userName, final int limit,
 	        @Nullable final String... fields)
 	        throws WattpadApiException {
-		return new Pager<>(this, WattpadStories.class, limit,
-		        WattpadConstants.FIELDS_FUNCTION.apply("stories", getFields(WattpadConstants.STORY_ALL_FIELDS, fields)),
+		return getStories(userName, limit, newDeadline(), fields);
+	}
+
+	/**
+	 * Get a limited amount the stories of a user, with a deadline for fetching all the pages. Limit to contain
+	 * certain fields.
+	 *
+	 * @param userName username of the user.
+	 * @param limit    maximum amount of stories to retrieve.
+	 * @param deadline the deadline by which all the pages must be fetched; null for no deadline.
+	 * @param fields   the fields of the story to include in retrieval. Defaults to all fields.
+	 * @return WattpadStories containing a limited amount of the stories of the user limited to only include the
+	 *         provided fields.
+	 * @throws WattpadTimeoutException if the first page cannot be fetched before the deadline.
+	 * @throws WattpadApiException     if any error occurs.
+	 */
+	public Pager<WattpadStories> getStories(@Nonnull final String userName, final int limit,
+	        @Nullable final Deadline deadline, @Nullable final String... fields) throws WattpadApiException {
+		return storiesPager(userName, limit, deadline, storiesQuery(fields));
+	}
+
+	/**
+	 * Get all the stories of a user. Limit to contain the fields of a projection.
+	 *
+	 * @param userName   username of the user.
+	 * @param projection the fields of the story to include in retrieval; null for all fields.
+	 * @return WattpadStories containing all the stories of the user limited to only include the projected fields.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	public WattpadStories getStoriesProjected(@Nonnull final String userName,
+	        @Nullable final Projection<StoryField> projection) throws WattpadApiException {
+		return storiesPager(userName, this.adaptivePaging, newDeadline(),
+		        projection == null ? STORY_ALL_QUERY : projection.query("stories")).all(this.pageConcurrency);
+	}
+
+	/**
+	 * Get a limited amount of the stories of a user. Limit to contain the fields of a projection.
+	 *
+	 * @param userName   username of the user.
+	 * @param limit      maximum amount of stories to retrieve.
+	 * @param projection the fields of the story to include in retrieval; null for all fields.
+	 * @return WattpadStories containing a limited amount of the stories of the user limited to only include the
+	 *         projected fields.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	public Pager<WattpadStories> getStoriesProjected(@Nonnull final String userName, final int limit,
+	        @Nullable final Projection<StoryField> projection) throws WattpadApiException {
+		return storiesPager(userName, limit, newDeadline(),
+		        projection == null ? STORY_ALL_QUERY : projection.query("stories"));
+	}
+
+	private Pager<WattpadStories> storiesPager(final String userName, final int limit, final Deadline deadline,
+	        final String storyFields) throws WattpadApiException {
+		return new Pager<>(this, WattpadStories.class, limit, deadline, storyFields, storiesPath(userName));
+	}
+
+	/**
+	 * Get a pager over the stories of a user with adaptively sized pages, or with the default limit if paging is null.
+	 */
+	private Pager<WattpadStories> storiesPager(final String userName, final AdaptivePaging paging,
+	        final Deadline deadline, final String storyFields) throws WattpadApiException {
+		return paging == null ? storiesPager(userName, WattpadConstants.DEFAULT_LIMIT, deadline, storyFields)
+		        : Pager.create(this, WattpadStories.class, paging, deadline, storyFields, storiesPath(userName));
+	}
+
+	private static Object[] storiesPath(final String userName) {
+		return new Object[] {
 		        "v4",
 		        "users", userName,
-		        "stories", "published");
+		        "stories", "published" };
+	}
+
+	/**
+	 * Get all the stories of a user asynchronously. Limit to contain certain fields.
+	 *
+	 * @param userName username of the user.
+	 * @param fields   the fields of the story to include in retrieval. Defaults to all fields.
+	 * @return a future of WattpadStories containing all the stories of the user limited to only include the provided
+	 *         fields, completed exceptionally with a WattpadApiException if any error occurs.
+	 */
+	public CompletableFuture<WattpadStories> getStoriesAsync(@Nonnull final String userName,
+	        @Nullable final String... fields) {
+		final AdaptivePaging paging = this.adaptivePaging;
+		final String storyFields = storiesQuery(fields);
+		final CompletableFuture<Pager<WattpadStories>> pager = paging == null
+		        ? Pager.createAsync(this, WattpadStories.class, WattpadConstants.DEFAULT_LIMIT, storyFields,
+		                storiesPath(userName))
+		        : Pager.createAsync(this, WattpadStories.class, paging, storyFields, storiesPath(userName));
+		return pager.thenCompose(first -> first.allAsync(this.pageConcurrency));
+	}
+
+	/**
+	 * Get a pager over the stories of a user asynchronously. Limit to contain certain fields.
+	 *
+	 * @param userName username of the user.
+	 * @param limit    maximum amount of stories per page.
+	 * @param fields   the fields of the story to include in retrieval. Defaults to all fields.
+	 * @return a future of the pager, completed once the first page is fetched, or completed exceptionally with a
+	 *         WattpadApiException if any error occurs.
+	 */
+	public CompletableFuture<Pager<WattpadStories>> getStoriesAsync(@Nonnull final String userName, final int limit,
+	        @Nullable final String... fields) {
+		return Pager.createAsync(this, WattpadStories.class, limit, storiesQuery(fields), storiesPath(userName));
+	}
+
+	/**
+	 * Get a lazy stream over all the stories of a user. Limit to contain certain fields. Pages are fetched while the
+	 * stream is consumed, so only one page of stories is kept in memory at a time.
+	 *
+	 * @param userName username of the user.
+	 * @param fields   the fields of the story to include in retrieval. Defaults to all fields.
+	 * @return a stream over all the stories of the user limited to only include the provided fields.
+	 * @throws WattpadApiException if any error occurs while fetching the first page.
+	 */
+	public Stream<WattpadStory> streamStories(@Nonnull final String userName, @Nullable final String... fields)
+	        throws WattpadApiException {
+		return storiesPager(userName, this.adaptivePaging, newDeadline(), storiesQuery(fields))
+		        .stream(WattpadStories::getStories);
+	}
 
+	/**
+	 * Pushes all the stories of a user to an action, one story at a time. Limit to contain certain fields.
+	 * <p>
+	 * Unlike {@link #streamStories(String, String...)}, no page is deserialized as a whole: the response is read as a
+	 * stream of JSON tokens, and every story is handed to the action as soon as its object is closed, so only about one
+	 * story is kept in memory at a time. The pages are fetched one after the other, offset by the amount of stories
+	 * read, until a page has no {@code nextUrl}. The responses are not cached.
+	 *
+	 * @param userName username of the user.
+	 * @param action   the action to perform on every story, on the calling thread.
+	 * @param fields   the fields of the story to include in retrieval. Defaults to all fields.
+	 * @return the amount of stories handed to the action.
+	 * @throws WattpadApiException if any error occurs; the stories that were read before are already handed to the
+	 *                             action.
+	 */
+	public int forEachStory(@Nonnull final String userName, @Nonnull final Consumer<? super WattpadStory> action,
+	        @Nullable final String... fields) throws WattpadApiException {
+		return forEachStory(userName, WattpadStory.class, action, fields);
+	}
+
+	/**
+	 * Pushes all the stories of a user to an action, one story at a time, read as the given type. Limit to contain
+	 * certain fields.
+	 * <p>
+	 * This is {@link #forEachStory(String, Consumer, String...)} for another representation of a story, e.g. a
+	 * {@link CompactStory} to keep many stories in memory.
+	 *
+	 * @param <S>      the type to read the stories as.
+	 * @param userName username of the user.
+	 * @param type     the class of the type to read the stories as.
+	 * @param action   the action to perform on every story, on the calling thread.
+	 * @param fields   the fields of the story to include in retrieval. Defaults to all fields.
+	 * @return the amount of stories handed to the action.
+	 * @throws WattpadApiException if any error occurs; the stories that were read before are already handed to the
+	 *                             action.
+	 */
+	public <S> int forEachStory(@Nonnull final String userName, @Nonnull final Class<S> type,
+	        @Nonnull final Consumer<? super S> action, @Nullable final String... fields) throws WattpadApiException {
+		return forEachStory(userName, type, action, storiesQuery(fields));
+	}
+
+	/**
+	 * Pushes all the stories of a user to an action, one story at a time, read as the given type. Limit to contain
+	 * the fields of a projection.
+	 *
+	 * @param <S>        the type to read the stories as.
+	 * @param userName   username of the user.
+	 * @param type       the class of the type to read the stories as.
+	 * @param action     the action to perform on every story, on the calling thread.
+	 * @param projection the fields of the story to include in retrieval; null for all fields.
+	 * @return the amount of stories handed to the action.
+	 * @throws WattpadApiException if any error occurs; the stories that were read before are already handed to the
+	 *                             action.
+	 * @see #forEachStory(String, Class, Consumer, String...)
+	 */
+	public <S> int forEachStoryProjected(@Nonnull final String userName, @Nonnull final Class<S> type,
+	        @Nonnull final Consumer<? super S> action, @Nullable final Projection<StoryField> projection)
+	        throws WattpadApiException {
+		return forEachStory(userName, type, action,
+		        projection == null ? STORY_ALL_QUERY : projection.query("stories"));
+	}
+
+	private <S> int forEachStory(final String userName, final Class<S> type, final Consumer<? super S> action,
+	        final String storyFields) throws WattpadApiException {
+		final Deadline deadline = newDeadline();
+		final AdaptivePaging paging = this.adaptivePaging;
+		int offset = 0;
+		try {
+			final URL url = getApiUrl(storiesPath(userName));
+			while (true) {
+				final int limit = paging == null ? WattpadConstants.DEFAULT_LIMIT
+				        : paging.limit(WattpadStories.class, storyFields);
+				final Map<String, String> queryParams = Pager.pageQueryParams(offset, limit, storyFields);
+				final StreamedPage page = readStories(validate(send(request(url, queryParams, deadline))), type,
+				        action);
+				offset += page.count();
+				final boolean more = page.nextUrl() != null && page.count() > 0
+				        && (page.total() == null || offset < page.total());
+				if (paging != null) {
+					// the stories are not kept, so only the honoured limit is learned
+					paging.learn(WattpadStories.class, storyFields, limit, page.count(), more, 0);
+				}
+				if (!more) {
+					return offset;
+				}
+			}
+		} catch (Exception e) {
+			throw handle(e);
+		}
+	}
+
+	/**
+	 * Reads a page of stories token by token, handing every story to the action as soon as it is read.
+	 */
+	private <S> StreamedPage readStories(final TransportResponse response, final Class<S> type,
+	        final Consumer<? super S> action) throws IOException {
+		int count = 0;
+		Integer total = null;
+		String nextUrl = null;
+		final ObjectReader storyReader = reader(type);
+		try (response; InputStream entity = entity(response);
+		        JsonParser parser = JacksonJson.mapper.createParser(entity)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "Expected a page of stories");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				final String field = parser.currentName();
+				final JsonToken value = parser.nextToken();
+				if ("stories".equals(field) && value == JsonToken.START_ARRAY) {
+					for (JsonToken story = parser.nextToken(); story != JsonToken.END_ARRAY;
+					        story = parser.nextToken()) {
+						if (story == null) {
+							throw new JsonParseException(parser, "Unexpected end of the stories");
+						}
+						if (story == JsonToken.START_OBJECT) {
+							action.accept(storyReader.readValue(parser));
+							count++;
+						}
+					}
+				} else if ("total".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+					total = parser.getIntValue();
+				} else if ("nextUrl".equals(field) && value == JsonToken.VALUE_STRING) {
+					nextUrl = parser.getText();
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return new StreamedPage(count, total, nextUrl);
 	}
 
 	/**
@@ -143,7 +576,7 @@ public class WattpadApi {
 	 * @throws WattpadApiException if any error occurs.
 	 */
 	public WattpadLists getLists(@Nonnull final String userName) throws WattpadApiException {
-		return getLists(userName, WattpadConstants.DEFAULT_LIMIT).all();
+		return listsPager(userName, this.adaptivePaging, newDeadline(), LIST_ALL_QUERY).all(this.pageConcurrency);
 	}
 
 	/**
@@ -156,7 +589,7 @@ public class WattpadApi {
 	 */
 	public WattpadLists getLists(@Nonnull final String userName, @Nullable final String... fields)
 	        throws WattpadApiException {
-		return getLists(userName, WattpadConstants.DEFAULT_LIMIT, fields).all();
+		return listsPager(userName, this.adaptivePaging, newDeadline(), listsQuery(fields)).all(this.pageConcurrency);
 	}
 
 	/**
@@ -171,11 +604,124 @@ public class WattpadApi {
 	 */
 	public Pager<WattpadLists> getLists(@Nonnull final String userName, int limit, @Nullable final String... fields)
 	        throws WattpadApiException {
-		return new Pager<>(this, WattpadLists.class, limit,
-		        WattpadConstants.FIELDS_FUNCTION.apply("lists", getFields(WattpadConstants.LIST_ALL_FIELDS, fields)),
+		return getLists(userName, limit, newDeadline(), fields);
+	}
+
+	/**
+	 * Get a limited amount of lists of a user, with a deadline for fetching all the pages. Limit to contain certain
+	 * fields.
+	 *
+	 * @param userName username of the user.
+	 * @param limit    maximum amount of lists to retrieve.
+	 * @param deadline the deadline by which all the pages must be fetched; null for no deadline.
+	 * @param fields   the fields of the list to include in retrieval. Defaults to all fields
+	 * @return WattpadLists containing a limited amount of the lists of the user limited to only include the provided
+	 *         fields.
+	 * @throws WattpadTimeoutException if the first page cannot be fetched before the deadline.
+	 * @throws WattpadApiException     if any error occurs.
+	 */
+	public Pager<WattpadLists> getLists(@Nonnull final String userName, final int limit,
+	        @Nullable final Deadline deadline, @Nullable final String... fields) throws WattpadApiException {
+		return listsPager(userName, limit, deadline, listsQuery(fields));
+	}
+
+	/**
+	 * Get all the lists of a user. Limit to contain the fields of a projection.
+	 *
+	 * @param userName   username of the user.
+	 * @param projection the fields of the list to include in retrieval; null for all fields.
+	 * @return WattpadLists containing all the lists of the user limited to only include the projected fields.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	public WattpadLists getListsProjected(@Nonnull final String userName,
+	        @Nullable final Projection<ListField> projection) throws WattpadApiException {
+		return listsPager(userName, this.adaptivePaging, newDeadline(),
+		        projection == null ? LIST_ALL_QUERY : projection.query("lists")).all(this.pageConcurrency);
+	}
+
+	/**
+	 * Get a limited amount of lists of a user. Limit to contain the fields of a projection.
+	 *
+	 * @param userName   username of the user.
+	 * @param limit      maximum amount of lists to retrieve.
+	 * @param projection the fields of the list to include in retrieval; null for all fields.
+	 * @return WattpadLists containing a limited amount of the lists of the user limited to only include the projected
+	 *         fields.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	public Pager<WattpadLists> getListsProjected(@Nonnull final String userName, final int limit,
+	        @Nullable final Projection<ListField> projection) throws WattpadApiException {
+		return listsPager(userName, limit, newDeadline(),
+		        projection == null ? LIST_ALL_QUERY : projection.query("lists"));
+	}
+
+	private Pager<WattpadLists> listsPager(final String userName, final int limit, final Deadline deadline,
+	        final String listFields) throws WattpadApiException {
+		return new Pager<>(this, WattpadLists.class, limit, deadline, listFields, listsPath(userName));
+	}
+
+	/**
+	 * Get a pager over the lists of a user with adaptively sized pages, or with the default limit if paging is null.
+	 */
+	private Pager<WattpadLists> listsPager(final String userName, final AdaptivePaging paging,
+	        final Deadline deadline, final String listFields) throws WattpadApiException {
+		return paging == null ? listsPager(userName, WattpadConstants.DEFAULT_LIMIT, deadline, listFields)
+		        : Pager.create(this, WattpadLists.class, paging, deadline, listFields, listsPath(userName));
+	}
+
+	private static Object[] listsPath(final String userName) {
+		return new Object[] {
 		        "api",
 		        "v3", "users", userName,
-		        "lists");
+		        "lists" };
+	}
+
+	/**
+	 * Get all the lists of a user asynchronously. Limit to contain certain fields.
+	 *
+	 * @param userName username of the user.
+	 * @param fields   the fields of the list to include in retrieval. Defaults to all fields.
+	 * @return a future of WattpadLists containing all the lists of the user limited to only include the provided
+	 *         fields, completed exceptionally with a WattpadApiException if any error occurs.
+	 */
+	public CompletableFuture<WattpadLists> getListsAsync(@Nonnull final String userName,
+	        @Nullable final String... fields) {
+		final AdaptivePaging paging = this.adaptivePaging;
+		final String listFields = listsQuery(fields);
+		final CompletableFuture<Pager<WattpadLists>> pager = paging == null
+		        ? Pager.createAsync(this, WattpadLists.class, WattpadConstants.DEFAULT_LIMIT, listFields,
+		                listsPath(userName))
+		        : Pager.createAsync(this, WattpadLists.class, paging, listFields, listsPath(userName));
+		return pager.thenCompose(first -> first.allAsync(this.pageConcurrency));
+	}
+
+	/**
+	 * Get a pager over the lists of a user asynchronously. Limit to contain certain fields.
+	 *
+	 * @param userName username of the user.
+	 * @param limit    maximum amount of lists per page.
+	 * @param fields   the fields of the list to include in retrieval. Defaults to all fields.
+	 * @return a future of the pager, completed once the first page is fetched, or completed exceptionally with a
+	 *         WattpadApiException if any error occurs.
+	 */
+	public CompletableFuture<Pager<WattpadLists>> getListsAsync(@Nonnull final String userName, final int limit,
+	        @Nullable final String... fields) {
+		return Pager.createAsync(this, WattpadLists.class, limit, listsQuery(fields), listsPath(userName));
+	}
+
+	/**
+	 * Get a lazy stream over all the lists of a user. Limit to contain certain fields. Pages are fetched while the
+	 * stream is consumed, so only one page of lists is kept in memory at a time.
+	 *
+	 * @param userName username of the user.
+	 * @param fields   the fields of the list to include in retrieval. Defaults to all fields.
+	 * @return a stream over all the lists of the user limited to only include the provided fields.
+	 * @throws WattpadApiException if any error occurs while fetching the first page.
+	 */
+	public Stream<WattpadList> streamLists(@Nonnull final String userName, @Nullable final String... fields)
+	        throws WattpadApiException {
+		return listsPager(userName, this.adaptivePaging, newDeadline(), listsQuery(fields))
+		        .stream(WattpadLists::getLists);
 	}
 
 	/**
@@ -186,8 +732,97 @@ public class WattpadApi {
 	 * @throws WattpadApiException if any error occurs.
 	 */
 	public WattpadUser getUser(@Nonnull final String userName) throws WattpadApiException {
-		Response response = validate(get(Map.of(), "api", "v3", "users", userName));
-		return readValue(response, WattpadUser.class);
+		final UserCache cache = this.userCache;
+		if (cache != null) {
+			return cache.get(userName, () -> get(WattpadUser.class, Map.of(), "api", "v3", "users", userName));
+		}
+		return get(WattpadUser.class, Map.of(), "api", "v3", "users", userName);
+	}
+
+	/**
+	 * Get users by username in bulk, with at most {@value WattpadConstants#DEFAULT_BULK_CONCURRENCY} calls in
+	 * flight.
+	 *
+	 * @param userNames usernames of the users.
+	 * @return the users that were found per username, and the failure per username that could not be retrieved.
+	 * @throws WattpadApiException if interrupted while waiting for the users.
+	 * @see #getUsers(Collection, int)
+	 */
+	public BulkResult<WattpadUser> getUsers(@Nonnull final Collection<String> userNames)
+	        throws WattpadApiException {
+		return getUsers(userNames, WattpadConstants.DEFAULT_BULK_CONCURRENCY);
+	}
+
+	/**
+	 * Get users by username in bulk. The calls run on virtual threads and share the client, and so the connection
+	 * pool, of this WattpadApi. A user that cannot be retrieved, e.g. because it does not exist, does not stop the
+	 * others; its WattpadApiException is returned as a failure instead, and so is any unexpected RuntimeException,
+	 * wrapped in a WattpadApiException.
+	 *
+	 * @param userNames   usernames of the users.
+	 * @param concurrency maximum amount of calls in flight at the same time.
+	 * @return the users that were found per username, and the failure per username that could not be retrieved.
+	 * @throws WattpadApiException if interrupted while waiting for the users.
+	 */
+	public BulkResult<WattpadUser> getUsers(@Nonnull final Collection<String> userNames, final int concurrency)
+	        throws WattpadApiException {
+		final Set<String> distinctUserNames = new LinkedHashSet<>(userNames);
+		final Map<String, WattpadUser> users = new ConcurrentHashMap<>();
+		final Map<String, WattpadApiException> failures = new ConcurrentHashMap<>();
+		final Semaphore permits = new Semaphore(Math.max(concurrency, 1));
+
+		try (ExecutorService executor = Executors
+		        .newThreadPerTaskExecutor(Thread.ofVirtual().name("wattpad-users-", 0).factory())) {
+			for (String userName : distinctUserNames) {
+				try {
+					permits.acquire();
+				} catch (InterruptedException e) {
+					executor.shutdownNow();
+					Thread.currentThread().interrupt();
+					throw new WattpadApiException(e);
+				}
+				executor.execute(() -> {
+					try {
+						users.put(userName, getUser(userName));
+					} catch (WattpadApiException e) {
+						failures.put(userName, e);
+					} catch (RuntimeException e) {
+						// an unexpected error must not lose the user, who would be neither a result nor a failure
+						failures.put(userName, new WattpadApiException(e));
+					} finally {
+						permits.release();
+					}
+				});
+			}
+		}
+
+		// keep the order of the requested usernames
+		final Map<String, WattpadUser> orderedUsers = new LinkedHashMap<>();
+		final Map<String, WattpadApiException> orderedFailures = new LinkedHashMap<>();
+		for (String userName : distinctUserNames) {
+			if (users.containsKey(userName)) {
+				orderedUsers.put(userName, users.get(userName));
+			} else if (failures.containsKey(userName)) {
+				orderedFailures.put(userName, failures.get(userName));
+			}
+		}
+		return new BulkResult<>(orderedUsers, orderedFailures);
+	}
+
+	/**
+	 * Get a user by username asynchronously.
+	 *
+	 * @param userName username of the user.
+	 * @return a future of WattpadUser containing the user, completed exceptionally with a WattpadApiException if any
+	 *         error occurs.
+	 */
+	public CompletableFuture<WattpadUser> getUserAsync(@Nonnull final String userName) {
+		final UserCache cache = this.userCache;
+		if (cache != null) {
+			return cache.getAsync(userName,
+			        () -> getAsync(WattpadUser.class, Map.of(), "api", "v3", "users", userName));
+		}
+		return getAsync(WattpadUser.class, Map.of(), "api", "v3", "users", userName);
 	}
 
 	/**
@@ -198,7 +833,7 @@ public class WattpadApi {
 	 * @param fields        fields the user passed to include in the API call.
 	 * @return fields to use in the API call;
 	 */
-	private String[] getFields(final String[] defaultFields, String... fields) {
+	private static String[] getFields(final String[] defaultFields, String... fields) {
 		if (fields == null) {
 			return defaultFields;
 		}
@@ -209,57 +844,504 @@ public class WattpadApi {
 		return fields;
 	}
 
-	@SuppressWarnings("SameParameterValue")
-	private <T> T readValue(final Response response, final Class<T> clazz) throws WattpadApiException {
-		try {
-			return JacksonJson.mapper.readValue((InputStream) response.getEntity(), clazz);
+	/**
+	 * Get the fields query parameter of a page of stories, which is only computed when not all fields are included.
+	 */
+	private static String storiesQuery(final String... fields) {
+		final String[] storyFields = getFields(WattpadConstants.STORY_ALL_FIELDS, fields);
+		return storyFields == WattpadConstants.STORY_ALL_FIELDS ? STORY_ALL_QUERY
+		        : WattpadConstants.FIELDS_FUNCTION.apply("stories", storyFields);
+	}
+
+	/**
+	 * Get the fields query parameter of a page of lists, which is only computed when not all fields are included.
+	 */
+	private static String listsQuery(final String... fields) {
+		final String[] listFields = getFields(WattpadConstants.LIST_ALL_FIELDS, fields);
+		return listFields == WattpadConstants.LIST_ALL_FIELDS ? LIST_ALL_QUERY
+		        : WattpadConstants.FIELDS_FUNCTION.apply("lists", listFields);
+	}
+
+	private <T> T readValue(final TransportResponse response, final Class<T> clazz, final LongConsumer bodyBytes)
+	        throws WattpadApiException {
+		try (response; CountingInputStream entity = new CountingInputStream(entity(response))) {
+			final T value = reader(clazz).readValue(entity);
+			if (bodyBytes != null) {
+				bodyBytes.accept(entity.getCount());
+			}
+			return value;
 		} catch (IOException e) {
 			throw new WattpadApiException(e);
 		}
 	}
 
 	/**
-	 * Perform an HTTP GET call with the specified query parameters and path objects, returning a ClientResponse
-	 * instance with the data returned from the endpoint.
+	 * Returns a reader of the given type, which canonicalizes the values that repeat if there is a canonicalizer, and
+	 * encodes the tags and categories if there is a tag dictionary.
+	 */
+	private ObjectReader reader(final Class<?> type) {
+		ObjectReader reader = JacksonJson.mapper.readerFor(type);
+		final Canonicalizer pool = this.canonicalizer;
+		if (pool != null) {
+			reader = reader.withAttribute(Canonicalizer.class, pool);
+		}
+		final TagDictionary dictionary = this.tagDictionary;
+		if (dictionary != null) {
+			reader = reader.withAttribute(TagDictionary.class, dictionary);
+		}
+		return reader;
+	}
+
+	/**
+	 * Returns the body of a response, decompressed while it is read.
+	 */
+	private InputStream entity(final TransportResponse response) throws IOException {
+		return this.transferStatistics.decode(response.getBody(), response.getHeader(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	/**
+	 * Perform an HTTP GET call with the specified query parameters and path objects, returning the data returned from
+	 * the endpoint as an instance of the specified type.
 	 *
+	 * @param <T>         the type to read the data as.
+	 * @param type        the class of the type to read the data as.
 	 * @param queryParams multivalue map of request parameters.
 	 * @param pathArgs    variable list of arguments used to build the URI.
-	 * @return a ClientResponse instance with the data returned from the endpoint.
+	 * @return the data returned from the endpoint.
 	 * @throws WattpadApiException if any error occurs.
 	 */
-	protected Response get(final Map<String, String> queryParams, final Object... pathArgs) throws WattpadApiException {
+	<T> T get(final Class<T> type, final Map<String, String> queryParams, final Object... pathArgs)
+	        throws WattpadApiException {
+		return get(type, newDeadline(), queryParams, pathArgs);
+	}
+
+	/**
+	 * Perform an HTTP GET call with the specified query parameters and path objects before the deadline, returning the
+	 * data returned from the endpoint as an instance of the specified type.
+	 *
+	 * @param <T>         the type to read the data as.
+	 * @param type        the class of the type to read the data as.
+	 * @param deadline    the deadline of the call, or null.
+	 * @param queryParams multivalue map of request parameters.
+	 * @param pathArgs    variable list of arguments used to build the URI.
+	 * @return the data returned from the endpoint.
+	 * @throws WattpadTimeoutException if the call is not completed before the deadline.
+	 * @throws WattpadApiException     if any error occurs.
+	 */
+	<T> T get(final Class<T> type, final Deadline deadline, final Map<String, String> queryParams,
+	        final Object... pathArgs) throws WattpadApiException {
+		return getCounting(type, deadline, queryParams, null, pathArgs);
+	}
+
+	/**
+	 * Perform an HTTP GET call like {@link #get(Class, Deadline, Map, Object...)}, reporting the size of the decoded
+	 * response body that was read.
+	 *
+	 * @param <T>         the type to read the data as.
+	 * @param type        the class of the type to read the data as.
+	 * @param deadline    the deadline of the call, or null.
+	 * @param queryParams multivalue map of request parameters.
+	 * @param bodyBytes   receives the size of the decoded response body, or of the cached one when it was not
+	 *                    modified; null to not count it.
+	 * @param pathArgs    variable list of arguments used to build the URI.
+	 * @return the data returned from the endpoint.
+	 * @throws WattpadTimeoutException if the call is not completed before the deadline.
+	 * @throws WattpadApiException     if any error occurs.
+	 */
+	<T> T getCounting(final Class<T> type, final Deadline deadline, final Map<String, String> queryParams,
+	        final LongConsumer bodyBytes, final Object... pathArgs) throws WattpadApiException {
 		try {
 			final URL url = getApiUrl(pathArgs);
-			return validate(get(queryParams, url));
+			final ResponseCache cache = this.responseCache;
+			if (cache == null) {
+				return readValue(validate(send(request(url, queryParams, deadline))), type, bodyBytes);
+			}
+			return getCached(cache, type, request(url, queryParams, deadline), bodyBytes);
 		} catch (Exception e) {
 			throw handle(e);
 		}
 	}
 
 	/**
-	 * Perform an HTTP GET call with the specified query parameters and URL, returning a ClientResponse instance with
-	 * the data returned from the endpoint.
+	 * Perform a conditional HTTP GET call when the response cache holds a response for the request, serving the cached
+	 * response if it was not modified. Otherwise, the response is read and cached if it has validators.
+	 */
+	private <T> T getCached(final ResponseCache cache, final Class<T> type, final Request request,
+	        final LongConsumer bodyBytes) throws WattpadApiException, IOException {
+		final String key = ResponseCache.key(request.url(), request.queryParams());
+		final ResponseCache.Entry cached = conditional(cache, key, type, request);
+		return readCached(cache, key, cached, type, send(request), bodyBytes);
+	}
+
+	/**
+	 * Adds the validators of the cached response of a request, if any, to its headers.
+	 *
+	 * @return the cached response, or null.
+	 */
+	private static ResponseCache.Entry conditional(final ResponseCache cache, final String key, final Class<?> type,
+	        final Request request) {
+		final ResponseCache.Entry cached = cache.get(key, type);
+		if (cached != null && cached.etag() != null) {
+			request.headers().put(HttpHeaders.IF_NONE_MATCH, cached.etag());
+		}
+		if (cached != null && cached.lastModified() != null) {
+			request.headers().put(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+		}
+		return cached;
+	}
+
+	/**
+	 * Reads the response of a conditional call, serving the cached response if it was not modified. Otherwise, the
+	 * response is read and cached if it has validators.
+	 */
+	private <T> T readCached(final ResponseCache cache, final String key, final ResponseCache.Entry cached,
+	        final Class<T> type, final TransportResponse response, final LongConsumer bodyBytes)
+	        throws WattpadApiException, IOException {
+		if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+			response.close();
+			cache.hit();
+			if (bodyBytes != null) {
+				bodyBytes.accept(cached.bytes());
+			}
+			return type.cast(cached.value());
+		}
+
+		validate(response);
+		cache.miss();
+		final String etag = response.getHeader(HttpHeaders.ETAG);
+		final String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+		if (etag == null && lastModified == null) {
+			return readValue(response, type, bodyBytes);
+		}
+		try (response; CountingInputStream body = new CountingInputStream(entity(response))) {
+			final T value = reader(type).readValue(body);
+			cache.put(key, new ResponseCache.Entry(etag, lastModified, value, body.getCount()));
+			if (bodyBytes != null) {
+				bodyBytes.accept(body.getCount());
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Perform an asynchronous HTTP GET call with the specified query parameters and path objects through the
+	 * transport. The response is validated and read on the executor of this WattpadApi.
+	 *
+	 * @param <T>         the type to read the data as.
+	 * @param type        the class of the type to read the data as.
+	 * @param queryParams multivalue map of request parameters.
+	 * @param pathArgs    variable list of arguments used to build the URI.
+	 * @return a future of the data returned from the endpoint, completed exceptionally with a WattpadApiException if
+	 *         any error occurs.
+	 */
+	<T> CompletableFuture<T> getAsync(final Class<T> type, final Map<String, String> queryParams,
+	        final Object... pathArgs) {
+		return getAsync(type, newDeadline(), queryParams, pathArgs);
+	}
+
+	/**
+	 * Perform an asynchronous HTTP GET call with the specified query parameters and path objects before the deadline.
+	 *
+	 * @param <T>         the type to read the data as.
+	 * @param type        the class of the type to read the data as.
+	 * @param deadline    the deadline of the call, or null.
+	 * @param queryParams multivalue map of request parameters.
+	 * @param pathArgs    variable list of arguments used to build the URI.
+	 * @return a future of the data returned from the endpoint, completed exceptionally with a WattpadTimeoutException
+	 *         if the call is not completed before the deadline, or a WattpadApiException if any other error occurs.
+	 */
+	<T> CompletableFuture<T> getAsync(final Class<T> type, final Deadline deadline,
+	        final Map<String, String> queryParams, final Object... pathArgs) {
+		return getAsyncCounting(type, deadline, queryParams, null, pathArgs);
+	}
+
+	/**
+	 * Perform an asynchronous HTTP GET call like {@link #getAsync(Class, Deadline, Map, Object...)}, reporting the
+	 * size of the decoded response body that was read before the future completes.
+	 *
+	 * @param <T>         the type to read the data as.
+	 * @param type        the class of the type to read the data as.
+	 * @param deadline    the deadline of the call, or null.
+	 * @param queryParams multivalue map of request parameters.
+	 * @param bodyBytes   receives the size of the decoded response body, or of the cached one when it was not
+	 *                    modified; null to not count it.
+	 * @param pathArgs    variable list of arguments used to build the URI.
+	 * @return a future of the data returned from the endpoint, completed exceptionally with a WattpadTimeoutException
+	 *         if the call is not completed before the deadline, or a WattpadApiException if any other error occurs.
+	 */
+	<T> CompletableFuture<T> getAsyncCounting(final Class<T> type, final Deadline deadline,
+	        final Map<String, String> queryParams, final LongConsumer bodyBytes, final Object... pathArgs) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		if (this.retryPolicy != null || this.circuitBreaker != null) {
+			// backoffs and hedges wait between attempts, and the circuit breaker times the whole call, so run the
+			// blocking call on the executor
+			this.executor.execute(() -> {
+				try {
+					result.complete(getCounting(type, deadline, queryParams, bodyBytes, pathArgs));
+				} catch (WattpadApiException e) {
+					result.completeExceptionally(e);
+				} catch (RuntimeException e) {
+					result.completeExceptionally(handle(e));
+				}
+			});
+			return result;
+		}
+		try {
+			final URL url = getApiUrl(pathArgs);
+			final RateLimiter limiter = this.rateLimiter;
+			if (limiter == null) {
+				sendAsync(request(url, queryParams, deadline), null, type, bodyBytes, result);
+			} else {
+				// wait for the rate limiter on the executor instead of the calling thread
+				this.executor.execute(() -> {
+					try {
+						acquire(limiter);
+						sendAsync(request(url, queryParams, deadline), limiter, type, bodyBytes, result);
+					} catch (Exception e) {
+						result.completeExceptionally(handle(e));
+					}
+				});
+			}
+		} catch (Exception e) {
+			result.completeExceptionally(handle(e));
+		}
+		return result;
+	}
+
+	/**
+	 * Sends an asynchronous HTTP GET call, completing the result with the validated response read on the executor of
+	 * this WattpadApi.
+	 */
+	private <T> void sendAsync(final Request request, final RateLimiter limiter, final Class<T> type,
+	        final LongConsumer bodyBytes, final CompletableFuture<T> result) throws WattpadTimeoutException {
+		final ResponseCache cache = this.responseCache;
+		final String key = cache == null ? null : ResponseCache.key(request.url(), request.queryParams());
+		final ResponseCache.Entry cached = cache == null ? null : conditional(cache, key, type, request);
+		final CompletableFuture<TransportResponse> sent = this.transport.getAsync(request.url(), request.queryParams(),
+		        request.headers(), request.timeout());
+		sent.whenCompleteAsync((response, thrown) -> {
+			try {
+				if (thrown != null) {
+					throw thrown instanceof CompletionException && thrown.getCause() != null
+					        ? thrown.getCause()
+					        : thrown;
+				}
+				if (limiter != null) {
+					limiter.onResponse(response.getStatus(), response.getHeader(HttpHeaders.RETRY_AFTER));
+				}
+				result.complete(cache == null ? readValue(validate(response), type, bodyBytes)
+				        : readCached(cache, key, cached, type, response, bodyBytes));
+			} catch (Exception e) {
+				result.completeExceptionally(handle(e));
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		}, this.executor);
+	}
+
+	/**
+	 * Perform an HTTP GET call with the specified query parameters and path objects, returning a TransportResponse
+	 * instance with the data returned from the endpoint.
 	 *
 	 * @param queryParams multivalue map of request parameters.
-	 * @param url         the fully formed path to the Wattpad API endpoint.
-	 * @return a ClientResponse instance with the data returned from the endpoint.
+	 * @param pathArgs    variable list of arguments used to build the URI.
+	 * @return a TransportResponse instance with the data returned from the endpoint.
+	 * @throws WattpadApiException if any error occurs.
+	 */
+	protected TransportResponse get(final Map<String, String> queryParams, final Object... pathArgs)
+	        throws WattpadApiException {
+		try {
+			final URL url = getApiUrl(pathArgs);
+			return validate(send(request(url, queryParams, newDeadline())));
+		} catch (Exception e) {
+			throw handle(e);
+		}
+	}
+
+	/**
+	 * Sends an HTTP GET call, retrying and hedging it according to the retry policy. No attempt is made once the
+	 * deadline of the request has passed, nor when the backoff before it would run past the deadline.
 	 */
-	private Response get(final Map<String, String> queryParams, final URL url) {
-		return invocation(url, queryParams).get();
+	private TransportResponse send(final Request request) throws WattpadApiException {
+		final RetryPolicy policy = this.retryPolicy;
+		for (int attempt = 1;; attempt++) {
+			try {
+				final TransportResponse response = policy == null || policy.getHedgeDelay() == null
+				        ? sendOnce(request)
+				        : sendHedged(request, policy.getHedgeDelay());
+				if (policy == null || attempt >= policy.getMaxAttempts()
+				        || !policy.isRetryable(response.getStatus())) {
+					return response;
+				}
+				response.close();
+			} catch (IOException | RuntimeException e) {
+				if (policy == null || attempt >= policy.getMaxAttempts() || !policy.isRetryable(e)) {
+					throw handle(e);
+				}
+			}
+			final Duration backoff = policy.backoff(attempt);
+			if (request.deadline() != null && backoff.compareTo(request.deadline().remaining()) >= 0) {
+				throw new WattpadTimeoutException(
+				        "Deadline of " + request.deadline().getTimeout() + " exceeded after " + attempt + " attempts");
+			}
+			try {
+				Thread.sleep(backoff);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new WattpadApiException(e);
+			}
+		}
 	}
 
-	private Invocation.Builder invocation(final URL url, final Map<String, String> queryParams) {
+	/**
+	 * Sends an HTTP GET call, and sends it a second time if it is not answered within the hedge delay. The first
+	 * response is used and the other one is closed; the call only fails if both requests fail.
+	 */
+	private TransportResponse sendHedged(final Request request, final Duration hedgeDelay)
+	        throws WattpadApiException, IOException {
+		final CompletableFuture<TransportResponse> primary = sendOnVirtualThread(request);
+		try {
+			return primary.get(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			// not answered in time, hedge below
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		} catch (InterruptedException e) {
+			primary.thenAccept(TransportResponse::close);
+			Thread.currentThread().interrupt();
+			throw new WattpadApiException(e);
+		}
 
-		WebTarget target = this.apiClient.target(url.toExternalForm());
-		if (queryParams != null) {
-			for (Map.Entry<String, String> param : queryParams.entrySet()) {
-				target = target.queryParam(param.getKey(), param.getValue());
+		final CompletableFuture<TransportResponse> hedge = sendOnVirtualThread(request);
+		final CompletableFuture<TransportResponse> first = new CompletableFuture<>();
+		final AtomicInteger failures = new AtomicInteger();
+		for (CompletableFuture<TransportResponse> attempt : List.of(primary, hedge)) {
+			attempt.whenComplete((response, thrown) -> {
+				if (thrown == null) {
+					if (!first.complete(response)) {
+						response.close();
+					}
+				} else if (failures.incrementAndGet() == 2) {
+					first.completeExceptionally(thrown);
+				}
+			});
+		}
+		try {
+			return first.get();
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		} catch (InterruptedException e) {
+			first.thenAccept(TransportResponse::close);
+			Thread.currentThread().interrupt();
+			throw new WattpadApiException(e);
+		}
+	}
+
+	private CompletableFuture<TransportResponse> sendOnVirtualThread(final Request request) {
+		final CompletableFuture<TransportResponse> response = new CompletableFuture<>();
+		Thread.ofVirtual().name("wattpad-hedge").start(() -> {
+			try {
+				response.complete(sendOnce(request));
+			} catch (Throwable e) {
+				response.completeExceptionally(e);
 			}
+		});
+		return response;
+	}
+
+	/**
+	 * Rethrows the cause of a failed attempt, keeping I/O and runtime exceptions so they can be retried.
+	 */
+	private static WattpadApiException unwrap(final ExecutionException e) throws IOException {
+		final Throwable cause = e.getCause();
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
 		}
-		Invocation.Builder builder = target.request();
-		builder = builder.accept(MediaType.APPLICATION_JSON);
-		builder = builder.header(HttpHeaders.USER_AGENT, WattpadConstants.USER_AGENT);
-		return builder;
+		if (cause instanceof IOException ioException) {
+			throw ioException;
+		}
+		if (cause instanceof WattpadApiException wattpadApiException) {
+			return wattpadApiException;
+		}
+		return new WattpadApiException(e);
+	}
+
+	/**
+	 * Sends an HTTP GET call through the circuit breaker, which rejects it while open and records its outcome, and the
+	 * rate limiter, which is adapted to the response.
+	 */
+	private TransportResponse sendOnce(final Request request) throws WattpadApiException, IOException {
+		final CircuitBreaker breaker = this.circuitBreaker;
+		final RateLimiter limiter = this.rateLimiter;
+		// fail before taking a permit when the deadline has already passed
+		request.timeout();
+		final long permit = breaker != null ? breaker.acquire() : 0;
+		final long start;
+		final TransportResponse response;
+		try {
+			if (limiter != null) {
+				limiter.acquire();
+			}
+			final Duration timeout;
+			try {
+				// the rate limiter may have used up the time that was left
+				timeout = request.timeout();
+			} catch (WattpadTimeoutException e) {
+				if (breaker != null) {
+					breaker.release(permit);
+				}
+				throw e;
+			}
+			start = System.nanoTime();
+			try {
+				response = this.transport.get(request.url(), request.queryParams(), request.headers(), timeout);
+			} catch (IOException | RuntimeException e) {
+				if (breaker != null) {
+					breaker.onResult(permit, System.nanoTime() - start, true);
+				}
+				throw e;
+			}
+		} catch (InterruptedException e) {
+			if (breaker != null) {
+				breaker.release(permit);
+			}
+			Thread.currentThread().interrupt();
+			throw new WattpadApiException(e);
+		}
+		if (breaker != null) {
+			breaker.onResult(permit, System.nanoTime() - start, isFailure(response.getStatus()));
+		}
+		if (limiter != null) {
+			limiter.onResponse(response.getStatus(), response.getHeader(HttpHeaders.RETRY_AFTER));
+		}
+		return response;
+	}
+
+	/**
+	 * Returns whether a response means Wattpad is degraded, rather than the request being wrong.
+	 */
+	private static boolean isFailure(final int status) {
+		return status >= 500 || status == 429;
+	}
+
+	private static void acquire(final RateLimiter limiter) throws WattpadApiException {
+		try {
+			limiter.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new WattpadApiException(e);
+		}
+	}
+
+	/**
+	 * Creates a request with the default headers, which can still be added to.
+	 */
+	private Request request(final URL url, final Map<String, String> queryParams, final Deadline deadline) {
+		final Map<String, String> headers = new LinkedHashMap<>();
+		headers.put(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+		headers.put(HttpHeaders.USER_AGENT, WattpadConstants.USER_AGENT);
+		headers.put(HttpHeaders.ACCEPT_ENCODING, TransferStatistics.ACCEPT_ENCODING);
+		return new Request(url, queryParams, headers, deadline);
 	}
 
 	/**
@@ -269,14 +1351,15 @@ public class WattpadApi {
 	 * @return original response if the response status is expected.
 	 * @throws WattpadApiException if HTTP status is not as expected.
 	 */
-	protected Response validate(final Response response) throws WattpadApiException {
+	protected TransportResponse validate(final TransportResponse response) throws WattpadApiException {
 		int responseCode = response.getStatus();
 		if (responseCode != Response.Status.OK.getStatusCode()) {
-			try {
-				throw new WattpadApiException(
-				        JacksonJson.mapper.readValue((InputStream) response.getEntity(), WattpadError.class));
+			try (InputStream entity = entity(response)) {
+				throw new WattpadApiException(JacksonJson.mapper.readValue(entity, WattpadError.class), responseCode);
 			} catch (IOException e) {
-				throw new WattpadApiException(response.getStatusInfo().getReasonPhrase());
+				throw new WattpadApiException(response.getReasonPhrase(), responseCode);
+			} finally {
+				response.close();
 			}
 		}
 		return response;
@@ -292,10 +1375,29 @@ public class WattpadApi {
 		if (thrown instanceof WattpadApiException wattpadApiException) {
 			return wattpadApiException;
 		}
+		if (isTimeout(thrown)) {
+			return new WattpadTimeoutException(thrown);
+		}
 
 		return new WattpadApiException(thrown);
 	}
 
+	/**
+	 * Returns whether an exception, or one of its causes, is a connect or read timeout of the transport.
+	 */
+	private static boolean isTimeout(final Throwable thrown) {
+		for (Throwable cause = thrown; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException
+			        || cause instanceof ConnectTimeoutException) {
+				return true;
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Construct a REST URL with the specified path arguments.
 	 *
@@ -318,4 +1420,27 @@ public class WattpadApi {
 		}
 		return urlBuilder.toString();
 	}
+
+	/**
+	 * What is left of a page of stories once its stories are handed to the action.
+	 */
+	private record StreamedPage(int count, Integer total, String nextUrl) {
+	}
+
+	/**
+	 * An HTTP GET call to send through the transport, before the deadline if it has one.
+	 */
+	private record Request(URL url, Map<String, String> queryParams, Map<String, String> headers,
+	        Deadline deadline) {
+
+		/**
+		 * Returns the time that is left to send the request, failing if the deadline has passed.
+		 *
+		 * @return the time that is left, or null if there is no deadline.
+		 * @throws WattpadTimeoutException if the deadline has passed.
+		 */
+		Duration timeout() throws WattpadTimeoutException {
+			return this.deadline == null ? null : this.deadline.remainingOrThrow();
+		}
+	}
 }
@@ -24,14 +24,30 @@ public class WattpadApiException extends Exception {
 
 	private final String message;
 
+	/**
+	 * The HTTP status of the response that caused this exception, or 0 if it was not caused by a response.
+	 */
+	private final int httpStatus;
+
 	/**
 	 * Create a WattpadApiException instance based on a message.
 	 *
 	 * @param message the message.
 	 */
 	public WattpadApiException(String message) {
+		this(message, 0);
+	}
+
+	/**
+	 * Create a WattpadApiException instance based on a message and the HTTP status of the response.
+	 *
+	 * @param message    the message.
+	 * @param httpStatus the HTTP status of the response.
+	 */
+	public WattpadApiException(String message, int httpStatus) {
 		super();
 		this.message = message;
+		this.httpStatus = httpStatus;
 	}
 
 	/**
@@ -42,6 +58,7 @@ public class WattpadApiException extends Exception {
 	public WattpadApiException(final Exception e) {
 		super(e);
 		message = e.getMessage();
+		httpStatus = 0;
 	}
 
 	/**
@@ -50,7 +67,18 @@ public class WattpadApiException extends Exception {
 	 * @param wattpadError the WattpadError wo wrap.
 	 */
 	public WattpadApiException(final WattpadError wattpadError) {
+		this(wattpadError, 0);
+	}
+
+	/**
+	 * Create a WattpadApiException instance based on the WattpadError and the HTTP status of the response.
+	 *
+	 * @param wattpadError the WattpadError wo wrap.
+	 * @param httpStatus   the HTTP status of the response.
+	 */
+	public WattpadApiException(final WattpadError wattpadError, final int httpStatus) {
 		super();
+		this.httpStatus = httpStatus;
 		if (wattpadError.getMessage() != null) {
 			this.message = wattpadError.getMessage();
 		} else {
@@ -1,5 +1,6 @@
 package org.wattpad4j.api;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 
 public final class WattpadConstants {
@@ -15,6 +16,35 @@ public final class WattpadConstants {
 
 	// defaults
 	static final int DEFAULT_LIMIT = 25;
+	static final int DEFAULT_BULK_CONCURRENCY = 16;
+
+	// connection pool defaults
+	static final int DEFAULT_MAX_CONNECTIONS = 50;
+	static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+	static final Duration DEFAULT_IDLE_EVICTION = Duration.ofSeconds(30);
+	static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(1);
+	static final Duration DEFAULT_CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(10);
+	static final Duration DEFAULT_VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(2);
+
+	// adaptive paging defaults
+	static final int DEFAULT_PAGING_MAX_LIMIT = 100;
+	static final long DEFAULT_PAGING_MAX_PAGE_BYTES = 1024 * 1024;
+
+	// timeout defaults
+	static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+	static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+	// retry defaults
+	static final int DEFAULT_RETRY_ATTEMPTS = 3;
+	static final Duration DEFAULT_RETRY_INITIAL_BACKOFF = Duration.ofMillis(100);
+	static final Duration DEFAULT_RETRY_MAX_BACKOFF = Duration.ofSeconds(5);
+
+	// circuit breaker defaults
+	static final int DEFAULT_CIRCUIT_WINDOW_SIZE = 20;
+	static final int DEFAULT_CIRCUIT_MINIMUM_CALLS = 10;
+	static final int DEFAULT_CIRCUIT_HALF_OPEN_TRIALS = 3;
+	static final Duration DEFAULT_CIRCUIT_SLOW_CALL_DURATION = Duration.ofSeconds(10);
+	static final Duration DEFAULT_CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
 
 	// story defaults
 	public static final String[] STORY_ALL_FIELDS = new String[] { "id", "title", "length", "createDate", "modifyDate",
@@ -0,0 +1,31 @@
+package org.wattpad4j.api;
+
+import java.io.Serial;
+
+/**
+ * This is the exception that will be thrown when a call to Wattpad times out: either a connect or read timeout of a
+ * single request, or the {@link Deadline} of the whole call.
+ */
+public class WattpadTimeoutException extends WattpadApiException {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Create a WattpadTimeoutException instance based on a message.
+	 *
+	 * @param message the message.
+	 */
+	public WattpadTimeoutException(String message) {
+		super(message);
+	}
+
+	/**
+	 * Create a WattpadTimeoutException instance based on the exception.
+	 *
+	 * @param e the Exception to wrap.
+	 */
+	public WattpadTimeoutException(final Exception e) {
+		super(e);
+	}
+}
@@ -0,0 +1,46 @@
+package org.wattpad4j.models;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+/**
+ * The sentinels the compact models, like {@link CompactStory} and {@link StoryTable}, hold for numbers and timestamps
+ * that are absent from the response, as their primitive fields cannot be null.
+ */
+public final class Absent {
+
+	/**
+	 * An absent count, id or other number, which are never negative.
+	 */
+	public static final int NUMBER = -1;
+
+	/**
+	 * An absent timestamp, in epoch seconds or, for a {@link StoryTable}, epoch milliseconds.
+	 */
+	public static final long TIMESTAMP = Long.MIN_VALUE;
+
+	private Absent() {
+	}
+
+	/**
+	 * Returns the instant of a timestamp.
+	 *
+	 * @param epochSecond the timestamp in epoch seconds.
+	 * @return the instant, or null if the timestamp is absent.
+	 */
+	public static Instant instant(final long epochSecond) {
+		return epochSecond == TIMESTAMP ? null : Instant.ofEpochSecond(epochSecond);
+	}
+
+	static int of(final Integer value) {
+		return value == null ? NUMBER : value;
+	}
+
+	static long of(final Long value) {
+		return value == null ? NUMBER : value;
+	}
+
+	static long of(final ZonedDateTime value) {
+		return value == null ? TIMESTAMP : value.toEpochSecond();
+	}
+}
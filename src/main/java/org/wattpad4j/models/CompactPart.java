@@ -0,0 +1,65 @@
+package org.wattpad4j.models;
+
+import java.io.Serializable;
+
+import org.wattpad4j.util.JacksonJson;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.StdConverter;
+
+/**
+ * Immutable, compact alternative to {@link WattpadPart}, as held by a {@link CompactStory}. Numbers are primitives,
+ * holding {@link Absent#NUMBER} when absent, and timestamps are epoch seconds, holding {@link Absent#TIMESTAMP} when
+ * absent.
+ *
+ * @param id           the id of the part.
+ * @param title        the title.
+ * @param url          the URL of the part.
+ * @param rating       the rating.
+ * @param draft        whether the part is a draft; false when absent.
+ * @param modifyDate   when the part was last modified, in epoch seconds.
+ * @param createDate   when the part was created, in epoch seconds.
+ * @param length       the length.
+ * @param videoId      the id of the video, or null.
+ * @param photoUrl     the URL of the photo, or null.
+ * @param commentCount the amount of comments.
+ * @param voteCount    the amount of votes.
+ * @param readCount    the amount of reads.
+ */
+@JsonDeserialize(converter = CompactPart.FromJson.class)
+@JsonPropertyOrder({ "id", "title", "url", "rating", "draft", "modifyDate", "createDate", "length", "videoId",
+        "photoUrl", "commentCount", "voteCount", "readCount" })
+public record CompactPart(long id, String title, String url, int rating, boolean draft, long modifyDate,
+        long createDate, long length, String videoId, String photoUrl, int commentCount, int voteCount,
+        int readCount) implements Serializable {
+
+	/**
+	 * Creates a CompactPart from a part.
+	 *
+	 * @param part the part.
+	 * @return the compact part.
+	 */
+	public static CompactPart of(final WattpadPart part) {
+		return new CompactPart(Absent.of(part.getId()), part.getTitle(), part.getUrl(), Absent.of(part.getRating()),
+		        Boolean.TRUE.equals(part.getDraft()), Absent.of(part.getModifyDate()), Absent.of(part.getCreateDate()),
+		        Absent.of(part.getLength()), part.getVideoId(), part.getPhotoUrl(), Absent.of(part.getCommentCount()),
+		        Absent.of(part.getVoteCount()), Absent.of(part.getReadCount()));
+	}
+
+	@Override
+	public String toString() {
+		return JacksonJson.toJsonString(this);
+	}
+
+	/**
+	 * Reads a CompactPart from the JSON of a WattpadPart.
+	 */
+	static final class FromJson extends StdConverter<WattpadPart, CompactPart> {
+
+		@Override
+		public CompactPart convert(final WattpadPart value) {
+			return of(value);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package org.wattpad4j.models;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import org.wattpad4j.util.IntList;
+import org.wattpad4j.util.JacksonJson;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.StdConverter;
+
+/**
+ * Immutable, compact alternative to {@link WattpadStory} for keeping many stories in memory. It is deserialized from
+ * the same JSON as a WattpadStory, e.g. by {@code JacksonJson.mapper.readValue(json, CompactStory.class)}, or
+ * converted from one by {@link #of(WattpadStory)}.
+ * <p>
+ * Numbers are primitives instead of boxed, holding {@link Absent#NUMBER} when absent, and timestamps are epoch seconds
+ * instead of {@code ZonedDateTime}s, holding {@link Absent#TIMESTAMP} when absent. Booleans are false when absent. The
+ * language, browse eligibility and published parts are flattened into the story; the lists are unmodifiable, never
+ * null and leave out null elements. The categories are an {@link IntList} of primitive ints.
+ *
+ * @param id                     the id of the story.
+ * @param title                  the title.
+ * @param length                 the length.
+ * @param createDate             when the story was created, in epoch seconds.
+ * @param modifyDate             when the story was last modified, in epoch seconds.
+ * @param voteCount              the amount of votes.
+ * @param commentCount           the amount of comments.
+ * @param languageId             the id of the language.
+ * @param languageName           the name of the language, or null.
+ * @param user                   the author, or null.
+ * @param description            the description, or null.
+ * @param cover                  the URL of the cover, or null.
+ * @param coverTimestamp         when the cover was last changed, in epoch seconds.
+ * @param completed              whether the story is completed.
+ * @param categories             the ids of the categories.
+ * @param tags                   the tags.
+ * @param rating                 the rating.
+ * @param mature                 whether the story is mature.
+ * @param copyright              the copyright.
+ * @param url                    the URL of the story, or null.
+ * @param firstPartId            the id of the first part.
+ * @param numParts               the amount of parts.
+ * @param readerBrowseEligible   whether readers can browse to the story.
+ * @param firstPublishedPartId   the id of the first published part.
+ * @param firstPublishedPartDate when the first published part was created, in epoch seconds.
+ * @param lastPublishedPartId    the id of the last published part.
+ * @param lastPublishedPartDate  when the last published part was created, in epoch seconds.
+ * @param parts                  the parts.
+ * @param deleted                whether the story is deleted.
+ * @param readCount              the amount of reads.
+ */
+@JsonDeserialize(converter = CompactStory.FromJson.class)
+@JsonPropertyOrder({ "id", "title", "length", "createDate", "modifyDate", "voteCount", "commentCount", "languageId",
+        "languageName", "user", "description", "cover", "coverTimestamp", "completed", "categories", "tags", "rating",
+        "mature", "copyright", "url", "firstPartId", "numParts", "readerBrowseEligible", "firstPublishedPartId",
+        "firstPublishedPartDate", "lastPublishedPartId", "lastPublishedPartDate", "parts", "deleted", "readCount" })
+public record CompactStory(String id, String title, long length, long createDate, long modifyDate, int voteCount,
+        int commentCount, long languageId, String languageName, CompactUser user, String description, String cover,
+        long coverTimestamp, boolean completed, IntList categories, List<String> tags, int rating,
+        boolean mature, int copyright, String url, long firstPartId, int numParts, boolean readerBrowseEligible,
+        long firstPublishedPartId, long firstPublishedPartDate, long lastPublishedPartId, long lastPublishedPartDate,
+        List<CompactPart> parts, boolean deleted, long readCount) implements Serializable {
+
+	/**
+	 * Creates a CompactStory, making the lists unmodifiable and leaving out null elements.
+	 */
+	public CompactStory {
+		categories = categories == null ? IntList.of() : categories;
+		tags = tags == null ? List.of() : tags.stream().filter(Objects::nonNull).toList();
+		parts = parts == null ? List.of() : parts.stream().filter(Objects::nonNull).toList();
+	}
+
+	/**
+	 * Creates a CompactStory from a story in a Wattpad response. The response is bound to a short-lived WattpadStory
+	 * first, so absent and null values are handled exactly like they are for a WattpadStory.
+	 *
+	 * @param story the story.
+	 * @return the compact story.
+	 */
+	public static CompactStory of(final WattpadStory story) {
+		final WattpadLanguage language = story.getLanguage();
+		final WattpadShortUser user = story.getUser();
+		final WattpadBrowseEligibility eligibility = story.getReaderBrowseEligibility();
+		final WattpadPublishedPart first = story.getFirstPublishedPart();
+		final WattpadPublishedPart last = story.getLastPublishedPart();
+		return new CompactStory(story.getId(), story.getTitle(), Absent.of(story.getLength()),
+		        Absent.of(story.getCreateDate()), Absent.of(story.getModifyDate()), Absent.of(story.getVoteCount()),
+		        Absent.of(story.getCommentCount()),
+		        language == null ? Absent.NUMBER : Absent.of(language.getId()),
+		        language == null ? null : language.getName(),
+		        user == null ? null : CompactUser.of(user),
+		        story.getDescription(), story.getCover() == null ? null : story.getCover().toString(),
+		        Absent.of(story.getCoverTimestamp()), Boolean.TRUE.equals(story.getCompleted()),
+		        story.getCategories() == null ? null : IntList.copyOf(story.getCategories()),
+		        story.getTags(), Absent.of(story.getRating()), Boolean.TRUE.equals(story.getMature()),
+		        Absent.of(story.getCopyright()), story.getUrl(), Absent.of(story.getFirstPartId()),
+		        Absent.of(story.getNumParts()), eligibility != null && Boolean.TRUE.equals(eligibility.getEligible()),
+		        first == null ? Absent.NUMBER : Absent.of(first.getId()),
+		        first == null ? Absent.TIMESTAMP : Absent.of(first.getCreateDate()),
+		        last == null ? Absent.NUMBER : Absent.of(last.getId()),
+		        last == null ? Absent.TIMESTAMP : Absent.of(last.getCreateDate()),
+		        story.getParts() == null ? null : story.getParts().stream().map(CompactPart::of).toList(),
+		        Boolean.TRUE.equals(story.getDeleted()), Absent.of(story.getReadCount()));
+	}
+
+	@Override
+	public String toString() {
+		return JacksonJson.toJsonString(this);
+	}
+
+	/**
+	 * Reads a CompactStory from the JSON of a WattpadStory.
+	 */
+	static final class FromJson extends StdConverter<WattpadStory, CompactStory> {
+
+		@Override
+		public CompactStory convert(final WattpadStory value) {
+			return of(value);
+		}
+	}
+}
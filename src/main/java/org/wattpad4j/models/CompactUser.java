@@ -0,0 +1,49 @@
+package org.wattpad4j.models;
+
+import java.io.Serializable;
+
+import org.wattpad4j.util.JacksonJson;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.StdConverter;
+
+/**
+ * Immutable, compact alternative to {@link WattpadShortUser}, as held by a {@link CompactStory}.
+ *
+ * @param name     the username.
+ * @param avatar   the URL of the avatar, or null.
+ * @param fullname the full name, or null.
+ * @param verified whether the user is verified; false when absent.
+ */
+@JsonDeserialize(converter = CompactUser.FromJson.class)
+@JsonPropertyOrder({ "name", "avatar", "fullname", "verified" })
+public record CompactUser(String name, String avatar, String fullname, boolean verified) implements Serializable {
+
+	/**
+	 * Creates a CompactUser from a user.
+	 *
+	 * @param user the user.
+	 * @return the compact user.
+	 */
+	public static CompactUser of(final WattpadShortUser user) {
+		return new CompactUser(user.getName(), user.getAvatar(), user.getFullname(),
+		        Boolean.TRUE.equals(user.getVerified()));
+	}
+
+	@Override
+	public String toString() {
+		return JacksonJson.toJsonString(this);
+	}
+
+	/**
+	 * Reads a CompactUser from the JSON of a WattpadShortUser.
+	 */
+	static final class FromJson extends StdConverter<WattpadShortUser, CompactUser> {
+
+		@Override
+		public CompactUser convert(final WattpadShortUser value) {
+			return of(value);
+		}
+	}
+}
@@ -1,6 +1,6 @@
 package org.wattpad4j.models;
 
-import java.net.URL;
+import java.net.URI;
 
 import jakarta.annotation.Nullable;
 
@@ -9,7 +9,7 @@ import jakarta.annotation.Nullable;
  */
 public interface HasNext<T> {
 
-	URL getNextUrl();
+	URI getNextUrl();
 
 	Integer getTotal();
 
@@ -17,4 +17,19 @@ public interface HasNext<T> {
 
 	T merge(@Nullable T next);
 
+	/**
+	 * Creates a copy of this page whose items are held in a single list presized for {@link #getTotal()} items, up to a
+	 * bound, so the following pages can be appended to it without copying the earlier items again.
+	 *
+	 * @return a copy of this page to append the following pages to.
+	 */
+	T accumulator();
+
+	/**
+	 * Appends the items of the next page to this page in place, taking over its total and nextUrl.
+	 *
+	 * @param next the page to append.
+	 */
+	void append(@Nullable T next);
+
 }
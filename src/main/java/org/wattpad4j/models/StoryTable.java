@@ -0,0 +1,354 @@
+package org.wattpad4j.models;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar table of stories for computing aggregates over many stories without keeping them in memory. Every story
+ * added, e.g. with {@code wattpadApi.forEachStory(userName, table::add)}, becomes a row of primitive columns: counts as
+ * ints and longs, dates as epoch milliseconds, and the language and author as codes into a dictionary of the table.
+ * <p>
+ * Rows are scanned as an {@link IntStream} of row indices, which may be made parallel, and the column getters take a
+ * row index, so they can be passed as functions to {@link #summarize(IntStream, IntToLongFunction)} and
+ * {@link #groupBy(IntStream, IntUnaryOperator, int, IntToLongFunction)}:
+ *
+ * <pre>
+ * LongSummaryStatistics[] reads = table.groupBy(table.rows().parallel(), table::getLanguage,
+ *         table.getLanguageCount(), table::getReadCount);
+ * </pre>
+ * <p>
+ * Absent numbers hold {@link Absent#NUMBER}, absent dates {@link Absent#TIMESTAMP}, and an absent language or author
+ * the code -1. Adding stories is not thread-safe, but once they are added the table can be read by many threads.
+ */
+public class StoryTable {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private int size;
+	private String[] ids = new String[INITIAL_CAPACITY];
+	private long[] readCounts = new long[INITIAL_CAPACITY];
+	private int[] voteCounts = new int[INITIAL_CAPACITY];
+	private int[] commentCounts = new int[INITIAL_CAPACITY];
+	private int[] numParts = new int[INITIAL_CAPACITY];
+	private long[] lengths = new long[INITIAL_CAPACITY];
+	private long[] createDates = new long[INITIAL_CAPACITY];
+	private long[] modifyDates = new long[INITIAL_CAPACITY];
+	private int[] languages = new int[INITIAL_CAPACITY];
+	private int[] authors = new int[INITIAL_CAPACITY];
+
+	private final Map<Long, Integer> languageCodes = new HashMap<>();
+	private final List<WattpadLanguage> languageDictionary = new ArrayList<>();
+	private final Map<String, Integer> authorCodes = new HashMap<>();
+	private final List<String> authorDictionary = new ArrayList<>();
+
+	/**
+	 * Adds a story as a row.
+	 *
+	 * @param story the story.
+	 */
+	public void add(final WattpadStory story) {
+		if (this.size == this.ids.length) {
+			grow();
+		}
+		final int row = this.size;
+		this.ids[row] = story.getId();
+		this.readCounts[row] = Absent.of(story.getReadCount());
+		this.voteCounts[row] = Absent.of(story.getVoteCount());
+		this.commentCounts[row] = Absent.of(story.getCommentCount());
+		this.numParts[row] = Absent.of(story.getNumParts());
+		this.lengths[row] = Absent.of(story.getLength());
+		this.createDates[row] = epochMilli(story.getCreateDate());
+		this.modifyDates[row] = epochMilli(story.getModifyDate());
+		this.languages[row] = encode(story.getLanguage());
+		this.authors[row] = encode(story.getUser());
+		this.size++;
+	}
+
+	/**
+	 * Adds the stories of a page as rows.
+	 *
+	 * @param page the page of stories.
+	 */
+	public void addAll(final WattpadStories page) {
+		if (page.getStories() != null) {
+			page.getStories().forEach(this::add);
+		}
+	}
+
+	/**
+	 * Returns the amount of rows.
+	 *
+	 * @return the amount of rows.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the indices of all the rows, to scan, filter and aggregate the rows.
+	 *
+	 * @return the sequential stream of the row indices.
+	 */
+	public IntStream rows() {
+		return IntStream.range(0, this.size);
+	}
+
+	/**
+	 * Returns the indices of the rows matching a predicate.
+	 *
+	 * @param predicate the predicate on the row index, e.g. {@code row -> table.getNumParts(row) > 10}.
+	 * @return the sequential stream of the matching row indices.
+	 */
+	public IntStream filter(final IntPredicate predicate) {
+		return rows().filter(predicate);
+	}
+
+	/**
+	 * Summarizes a column over some rows, skipping the rows where the value is absent.
+	 *
+	 * @param rows   the row indices, which may be a parallel stream.
+	 * @param column the column, e.g. {@code table::getReadCount}.
+	 * @return the count, sum, minimum, average and maximum of the values that are not absent.
+	 */
+	public LongSummaryStatistics summarize(final IntStream rows, final IntToLongFunction column) {
+		return rows.mapToLong(column).filter(StoryTable::isPresent).summaryStatistics();
+	}
+
+	/**
+	 * Summarizes a column over some rows by a key, skipping the rows where the key is negative or the value is absent.
+	 *
+	 * @param rows   the row indices, which may be a parallel stream.
+	 * @param key    the key of a row, between 0 and {@code keys}, e.g. {@code table::getLanguage}.
+	 * @param keys   the amount of keys, e.g. {@link #getLanguageCount()}.
+	 * @param column the column, e.g. {@code table::getReadCount}.
+	 * @return the summary of the values of every key, indexed by the key.
+	 */
+	public LongSummaryStatistics[] groupBy(final IntStream rows, final IntUnaryOperator key, final int keys,
+	        final IntToLongFunction column) {
+		return rows.collect(() -> {
+			final LongSummaryStatistics[] groups = new LongSummaryStatistics[keys];
+			Arrays.setAll(groups, i -> new LongSummaryStatistics());
+			return groups;
+		}, (groups, row) -> {
+			final int group = key.applyAsInt(row);
+			final long value = column.applyAsLong(row);
+			if (group >= 0 && isPresent(value)) {
+				groups[group].accept(value);
+			}
+		}, (groups, other) -> {
+			for (int i = 0; i < keys; i++) {
+				groups[i].combine(other[i]);
+			}
+		});
+	}
+
+	/**
+	 * Returns the id of the story of a row.
+	 *
+	 * @param row the row index.
+	 * @return the id of the story.
+	 */
+	public String getId(final int row) {
+		return this.ids[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the amount of reads of a row.
+	 *
+	 * @param row the row index.
+	 * @return the amount of reads.
+	 */
+	public long getReadCount(final int row) {
+		return this.readCounts[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the amount of votes of a row.
+	 *
+	 * @param row the row index.
+	 * @return the amount of votes.
+	 */
+	public int getVoteCount(final int row) {
+		return this.voteCounts[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the amount of comments of a row.
+	 *
+	 * @param row the row index.
+	 * @return the amount of comments.
+	 */
+	public int getCommentCount(final int row) {
+		return this.commentCounts[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the amount of parts of a row.
+	 *
+	 * @param row the row index.
+	 * @return the amount of parts.
+	 */
+	public int getNumParts(final int row) {
+		return this.numParts[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the length of a row.
+	 *
+	 * @param row the row index.
+	 * @return the length.
+	 */
+	public long getLength(final int row) {
+		return this.lengths[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns when the story of a row was created.
+	 *
+	 * @param row the row index.
+	 * @return when the story was created, in epoch milliseconds.
+	 */
+	public long getCreateDate(final int row) {
+		return this.createDates[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns when the story of a row was last modified.
+	 *
+	 * @param row the row index.
+	 * @return when the story was last modified, in epoch milliseconds.
+	 */
+	public long getModifyDate(final int row) {
+		return this.modifyDates[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the code of the language of a row.
+	 *
+	 * @param row the row index.
+	 * @return the code of the language, or -1 if absent.
+	 */
+	public int getLanguage(final int row) {
+		return this.languages[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the code of the author of a row.
+	 *
+	 * @param row the row index.
+	 * @return the code of the author, or -1 if absent.
+	 */
+	public int getAuthor(final int row) {
+		return this.authors[Objects.checkIndex(row, this.size)];
+	}
+
+	/**
+	 * Returns the amount of distinct languages, which are coded from 0.
+	 *
+	 * @return the amount of distinct languages.
+	 */
+	public int getLanguageCount() {
+		return this.languageDictionary.size();
+	}
+
+	/**
+	 * Returns the language with a code.
+	 *
+	 * @param code the code of the language.
+	 * @return the language.
+	 */
+	public WattpadLanguage getLanguageOf(final int code) {
+		return this.languageDictionary.get(code);
+	}
+
+	/**
+	 * Returns the code of a language.
+	 *
+	 * @param languageId the id of the language.
+	 * @return the code of the language, or -1 if no row has the language.
+	 */
+	public int getLanguageCode(final long languageId) {
+		return this.languageCodes.getOrDefault(languageId, -1);
+	}
+
+	/**
+	 * Returns the amount of distinct authors, which are coded from 0.
+	 *
+	 * @return the amount of distinct authors.
+	 */
+	public int getAuthorCount() {
+		return this.authorDictionary.size();
+	}
+
+	/**
+	 * Returns the name of the author with a code.
+	 *
+	 * @param code the code of the author.
+	 * @return the name of the author.
+	 */
+	public String getAuthorOf(final int code) {
+		return this.authorDictionary.get(code);
+	}
+
+	/**
+	 * Returns the code of an author.
+	 *
+	 * @param userName the name of the author.
+	 * @return the code of the author, or -1 if no row has the author.
+	 */
+	public int getAuthorCode(final String userName) {
+		return this.authorCodes.getOrDefault(userName, -1);
+	}
+
+	private void grow() {
+		final int capacity = this.ids.length * 2;
+		this.ids = Arrays.copyOf(this.ids, capacity);
+		this.readCounts = Arrays.copyOf(this.readCounts, capacity);
+		this.voteCounts = Arrays.copyOf(this.voteCounts, capacity);
+		this.commentCounts = Arrays.copyOf(this.commentCounts, capacity);
+		this.numParts = Arrays.copyOf(this.numParts, capacity);
+		this.lengths = Arrays.copyOf(this.lengths, capacity);
+		this.createDates = Arrays.copyOf(this.createDates, capacity);
+		this.modifyDates = Arrays.copyOf(this.modifyDates, capacity);
+		this.languages = Arrays.copyOf(this.languages, capacity);
+		this.authors = Arrays.copyOf(this.authors, capacity);
+	}
+
+	private int encode(final WattpadLanguage language) {
+		if (language == null || language.getId() == null) {
+			return -1;
+		}
+		return this.languageCodes.computeIfAbsent(language.getId(), id -> {
+			this.languageDictionary.add(language);
+			return this.languageDictionary.size() - 1;
+		});
+	}
+
+	private int encode(final WattpadShortUser user) {
+		if (user == null || user.getName() == null) {
+			return -1;
+		}
+		return this.authorCodes.computeIfAbsent(user.getName(), name -> {
+			this.authorDictionary.add(name);
+			return this.authorDictionary.size() - 1;
+		});
+	}
+
+	private static long epochMilli(final ZonedDateTime date) {
+		return date == null ? Absent.TIMESTAMP : date.toInstant().toEpochMilli();
+	}
+
+	private static boolean isPresent(final long value) {
+		return value != Absent.NUMBER && value != Absent.TIMESTAMP;
+	}
+}
@@ -0,0 +1,32 @@
+package org.wattpad4j.models;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * Conversion of the URI fields of the models to the URL they used to be, for the deprecated accessors.
+ */
+final class Urls {
+
+	private Urls() {
+	}
+
+	/**
+	 * Converts a URI to a URL.
+	 *
+	 * @param uri the URI, or null.
+	 * @return the URL, or null if the URI is null.
+	 * @throws IllegalArgumentException if the URI cannot be converted to a URL.
+	 */
+	static URL toUrl(final URI uri) {
+		if (uri == null) {
+			return null;
+		}
+		try {
+			return uri.toURL();
+		} catch (MalformedURLException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+}
@@ -5,9 +5,11 @@ import java.io.Serializable;
 import java.util.List;
 
 import org.wattpad4j.util.JacksonJson;
+import org.wattpad4j.util.TagsDeserializer;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -33,6 +35,8 @@ public class WattpadList implements Serializable {
 	@JsonProperty("sample_covers")
 	private List<String> sampleCovers;
 	private String cover;
+
+	@JsonDeserialize(using = TagsDeserializer.class)
 	private List<String> tags;
 
 	@Override
@@ -2,12 +2,14 @@ package org.wattpad4j.models;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.wattpad4j.util.JacksonJson;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 import jakarta.annotation.Nullable;
@@ -28,9 +30,12 @@ public class WattpadStories implements HasNext<WattpadStories>, Serializable {
 	@Serial
 	private static final long serialVersionUID = 1L;
 
+	// largest amount of items the accumulator is presized for
+	private static final int MAX_PRESIZE = 10_000;
+
 	private List<WattpadStory> stories;
 	private Integer total;
-	private URL nextUrl;
+	private URI nextUrl;
 
 	@Override
 	public Integer getCurrentTotalElements() {
@@ -47,6 +52,46 @@ public class WattpadStories implements HasNext<WattpadStories>, Serializable {
 		return new WattpadStories(stories, next.total, next.nextUrl);
 	}
 
+	@Override
+	public WattpadStories accumulator() {
+		final int size = getCurrentTotalElements();
+		// the total is reported by the server, so it only presizes up to a bound and the list grows past it
+		final int presize = this.total == null ? 0 : Math.min(this.total, MAX_PRESIZE);
+		final List<WattpadStory> stories = new ArrayList<>(Math.max(presize, size));
+		if (this.stories != null) {
+			stories.addAll(this.stories);
+		}
+		return new WattpadStories(stories, this.total, this.nextUrl);
+	}
+
+	@Override
+	public void append(@Nullable WattpadStories next) {
+		if (next == null || next == this) {
+			return;
+		}
+		if (next.stories != null) {
+			if (this.stories == null) {
+				this.stories = new ArrayList<>(next.stories);
+			} else {
+				this.stories.addAll(next.stories);
+			}
+		}
+		this.total = next.total;
+		this.nextUrl = next.nextUrl;
+	}
+
+	/**
+	 * Returns the nextUrl as a URL.
+	 *
+	 * @return the nextUrl as a URL.
+	 * @deprecated use {@link #getNextUrl()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getNextUrlAsUrl() {
+		return Urls.toUrl(this.nextUrl);
+	}
+
 	@Override
 	public String toString() {
 		return JacksonJson.toJsonString(this);
@@ -2,14 +2,19 @@ package org.wattpad4j.models;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.net.URI;
 import java.net.URL;
 import java.time.ZonedDateTime;
 import java.util.List;
 
+import org.wattpad4j.util.CategoriesDeserializer;
 import org.wattpad4j.util.JacksonJson;
+import org.wattpad4j.util.TagsDeserializer;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -41,12 +46,16 @@ public class WattpadStory implements Serializable {
 	private WattpadLanguage language;
 	private WattpadShortUser user;
 	private String description;
-	private URL cover;
+	private URI cover;
 
 	@JsonProperty("cover_timestamp")
 	private ZonedDateTime coverTimestamp;
 	private Boolean completed;
+
+	@JsonDeserialize(using = CategoriesDeserializer.class)
 	private List<Integer> categories;
+
+	@JsonDeserialize(using = TagsDeserializer.class)
 	private List<String> tags;
 	private Integer rating;
 	private Boolean mature;
@@ -61,6 +70,18 @@ public class WattpadStory implements Serializable {
 	private Boolean deleted;
 	private Long readCount;
 
+	/**
+	 * Returns the cover as a URL.
+	 *
+	 * @return the cover as a URL.
+	 * @deprecated use {@link #getCover()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getCoverAsUrl() {
+		return Urls.toUrl(this.cover);
+	}
+
 	@Override
 	public String toString() {
 		return JacksonJson.toJsonString(this);
@@ -2,12 +2,14 @@ package org.wattpad4j.models;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.net.URI;
 import java.net.URL;
 import java.time.ZonedDateTime;
 import java.util.List;
 
 import org.wattpad4j.util.JacksonJson;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
@@ -33,9 +35,9 @@ public class WattpadUser implements Serializable {
 	private static final long serialVersionUID = 1L;
 
 	private String username;
-	private URL avatar;
+	private URI avatar;
 	private Boolean isPrivate;
-	private URL backgroundUrl;
+	private URI backgroundUrl;
 	private String name;
 	private String description;
 	private String status;
@@ -48,11 +50,11 @@ public class WattpadUser implements Serializable {
 	private String location;
 	private Boolean verified;
 	private Boolean ambassador;
-	private URL facebook;
-	private URL website;
-	private URL lulu;
-	private URL smashwords;
-	private URL bubok;
+	private URI facebook;
+	private URI website;
+	private URI lulu;
+	private URI smashwords;
+	private URI bubok;
 	private Long votesReceived;
 	private Integer numStoriesPublished;
 	private Integer numFollowing;
@@ -69,6 +71,90 @@ public class WattpadUser implements Serializable {
 	private String deeplink;
 	private Boolean isMuted;
 
+	/**
+	 * Returns the avatar as a URL.
+	 *
+	 * @return the avatar as a URL.
+	 * @deprecated use {@link #getAvatar()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getAvatarAsUrl() {
+		return Urls.toUrl(this.avatar);
+	}
+
+	/**
+	 * Returns the backgroundUrl as a URL.
+	 *
+	 * @return the backgroundUrl as a URL.
+	 * @deprecated use {@link #getBackgroundUrl()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getBackgroundUrlAsUrl() {
+		return Urls.toUrl(this.backgroundUrl);
+	}
+
+	/**
+	 * Returns the facebook as a URL.
+	 *
+	 * @return the facebook as a URL.
+	 * @deprecated use {@link #getFacebook()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getFacebookAsUrl() {
+		return Urls.toUrl(this.facebook);
+	}
+
+	/**
+	 * Returns the website as a URL.
+	 *
+	 * @return the website as a URL.
+	 * @deprecated use {@link #getWebsite()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getWebsiteAsUrl() {
+		return Urls.toUrl(this.website);
+	}
+
+	/**
+	 * Returns the lulu as a URL.
+	 *
+	 * @return the lulu as a URL.
+	 * @deprecated use {@link #getLulu()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getLuluAsUrl() {
+		return Urls.toUrl(this.lulu);
+	}
+
+	/**
+	 * Returns the smashwords as a URL.
+	 *
+	 * @return the smashwords as a URL.
+	 * @deprecated use {@link #getSmashwords()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getSmashwordsAsUrl() {
+		return Urls.toUrl(this.smashwords);
+	}
+
+	/**
+	 * Returns the bubok as a URL.
+	 *
+	 * @return the bubok as a URL.
+	 * @deprecated use {@link #getBubok()}; unlike a URL, its URI does not resolve the host in equals and hashCode.
+	 */
+	@Deprecated(since = "0.1.2")
+	@JsonIgnore
+	public URL getBubokAsUrl() {
+		return Urls.toUrl(this.bubok);
+	}
+
 	@Override
 	public String toString() {
 		return JacksonJson.toJsonString(this);
@@ -0,0 +1,58 @@
+package org.wattpad4j.util;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+/**
+ * Deserializer that replaces the values read by the wrapped deserializer by their canonical instance, when the
+ * response is read with a {@link Canonicalizer}.
+ */
+final class CanonicalDeserializer extends DelegatingDeserializer {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	CanonicalDeserializer(final JsonDeserializer<?> delegate) {
+		super(delegate);
+	}
+
+	@Override
+	protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+		return new CanonicalDeserializer(newDelegatee);
+	}
+
+	@Override
+	public Object deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+		return Canonicalizer.canonical(context, super.deserialize(parser, context));
+	}
+
+	/**
+	 * Wraps the deserializers of the given types in a CanonicalDeserializer.
+	 */
+	static final class Modifier extends BeanDeserializerModifier {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final Set<Class<?>> types;
+
+		Modifier(final Set<Class<?>> types) {
+			this.types = types;
+		}
+
+		@Override
+		public JsonDeserializer<?> modifyDeserializer(final DeserializationConfig config,
+		        final BeanDescription beanDesc, final JsonDeserializer<?> deserializer) {
+			return this.types.contains(beanDesc.getBeanClass()) ? new CanonicalDeserializer(deserializer) : deserializer;
+		}
+	}
+}
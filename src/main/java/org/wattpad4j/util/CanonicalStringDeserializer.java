@@ -0,0 +1,31 @@
+package org.wattpad4j.util;
+
+import java.io.IOException;
+import java.io.Serial;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+/**
+ * Deserializer of strings that repeat across responses, like tags, returning their canonical instance when the
+ * response is read with a {@link Canonicalizer}.
+ */
+public class CanonicalStringDeserializer extends StdScalarDeserializer<String> {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Create a CanonicalStringDeserializer.
+	 */
+	public CanonicalStringDeserializer() {
+		super(String.class);
+	}
+
+	@Override
+	public String deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+		return Canonicalizer.canonical(context, StringDeserializer.instance.deserialize(parser, context));
+	}
+}
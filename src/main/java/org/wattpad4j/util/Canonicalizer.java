@@ -0,0 +1,123 @@
+package org.wattpad4j.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * Pool of canonical instances of the values that repeat across a crawl: the tags of stories and lists, and the
+ * {@code WattpadShortUser} authors and {@code WattpadLanguage}s of stories. While a response is read with a
+ * Canonicalizer, every such value that is equal to one read before is replaced by the instance read first, so the
+ * duplicates can be garbage collected.
+ * <p>
+ * The pool is bounded: once it holds {@code maxEntries} values, new values are no longer added and are returned as
+ * read. It is safe to share between threads.
+ * <p>
+ * Canonical authors and languages are shared by all the stories that refer to them, so they must not be modified.
+ */
+public class Canonicalizer {
+
+	/**
+	 * The default maximum amount of canonical values.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+	private final int maxEntries;
+	private final Map<Object, Object> pool = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Create a Canonicalizer holding at most {@value #DEFAULT_MAX_ENTRIES} values.
+	 */
+	public Canonicalizer() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a Canonicalizer.
+	 *
+	 * @param maxEntries maximum amount of canonical values.
+	 */
+	public Canonicalizer(final int maxEntries) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries must be positive");
+		}
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Returns the canonical instance of a value, adding the value as canonical instance if there is none and the pool
+	 * is not full.
+	 *
+	 * @param <T>   the type of the value.
+	 * @param value the value; the value must be immutable, or never be modified.
+	 * @return the canonical instance equal to the value, or the value itself.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T canonical(final T value) {
+		if (value == null) {
+			return null;
+		}
+		final Object canonical = this.pool.get(value);
+		if (canonical != null) {
+			this.hits.increment();
+			return (T) canonical;
+		}
+		this.misses.increment();
+		if (this.pool.size() >= this.maxEntries) {
+			return value;
+		}
+		final Object previous = this.pool.putIfAbsent(value, value);
+		return previous == null ? value : (T) previous;
+	}
+
+	/**
+	 * Returns the amount of canonical values.
+	 *
+	 * @return the amount of canonical values.
+	 */
+	public int size() {
+		return this.pool.size();
+	}
+
+	/**
+	 * Returns the amount of values that were replaced by their canonical instance.
+	 *
+	 * @return the amount of duplicates.
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Returns the amount of values that had no canonical instance yet.
+	 *
+	 * @return the amount of first occurrences.
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Removes all the canonical values.
+	 */
+	public void clear() {
+		this.pool.clear();
+	}
+
+	/**
+	 * Returns the canonical instance of a value using the Canonicalizer the response is read with, if any.
+	 *
+	 * @param context the context of the deserialization.
+	 * @param value   the value.
+	 * @return the canonical instance equal to the value, or the value itself.
+	 */
+	static <T> T canonical(final DeserializationContext context, final T value) {
+		return context.getAttribute(Canonicalizer.class) instanceof Canonicalizer canonicalizer
+		        ? canonicalizer.canonical(value)
+		        : value;
+	}
+}
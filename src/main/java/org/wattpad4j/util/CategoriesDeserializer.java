@@ -0,0 +1,66 @@
+package org.wattpad4j.util;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+
+/**
+ * Deserializer of the categories of stories. When the response is read with a {@link TagDictionary}, the categories
+ * are read as an {@link IntList}; otherwise they are read as an {@link ArrayList}.
+ */
+public class CategoriesDeserializer extends StdDeserializer<List<Integer>> {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Create a CategoriesDeserializer.
+	 */
+	public CategoriesDeserializer() {
+		super(TypeFactory.defaultInstance().constructCollectionType(List.class, Integer.class));
+	}
+
+	@Override
+	public List<Integer> deserialize(final JsonParser parser, final DeserializationContext context)
+	        throws IOException {
+		if (!parser.isExpectedStartArrayToken()) {
+			@SuppressWarnings("unchecked")
+			final List<Integer> unexpected = (List<Integer>) context.handleUnexpectedToken(getValueType(context),
+			        parser);
+			return unexpected;
+		}
+		final List<Integer> categories = new ArrayList<>();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			categories.add(context.readValue(parser, Integer.class));
+		}
+		return toIntList(context, categories);
+	}
+
+	@Override
+	public AccessPattern getEmptyAccessPattern() {
+		return AccessPattern.DYNAMIC;
+	}
+
+	@Override
+	public Object getEmptyValue(final DeserializationContext context) {
+		return toIntList(context, new ArrayList<>());
+	}
+
+	/**
+	 * Converts the categories to an IntList when the response is read with a TagDictionary, if none of them is null.
+	 */
+	private static List<Integer> toIntList(final DeserializationContext context, final List<Integer> categories) {
+		if (!(context.getAttribute(TagDictionary.class) instanceof TagDictionary) || categories.contains(null)) {
+			return categories;
+		}
+		return new IntList(categories.stream().mapToInt(Integer::intValue).toArray());
+	}
+}
@@ -0,0 +1,104 @@
+package org.wattpad4j.util;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of tags stored as their codes in a {@link TagDictionary}. It is equal to any list of the same tags,
+ * and {@link #getCode(int)} and {@link #containsCode(int)} read the codes without looking up the tags, so filtering on
+ * a tag only compares ints:
+ *
+ * <pre>
+ * int code = dictionary.indexOf("romance");
+ * boolean romance = story.getTags() instanceof EncodedTags tags ? tags.containsCode(code)
+ *         : story.getTags().contains("romance");
+ * </pre>
+ * <p>
+ * It is serialized as a plain list of tags, without the dictionary.
+ */
+public final class EncodedTags extends AbstractList<String> implements RandomAccess, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final transient TagDictionary dictionary;
+	private final transient int[] codes;
+
+	/**
+	 * Create EncodedTags of the given codes, which must not be modified anymore.
+	 */
+	EncodedTags(final TagDictionary dictionary, final int[] codes) {
+		this.dictionary = dictionary;
+		this.codes = codes;
+	}
+
+	/**
+	 * Returns the dictionary of the codes.
+	 *
+	 * @return the dictionary of the codes.
+	 */
+	public TagDictionary getDictionary() {
+		return this.dictionary;
+	}
+
+	@Override
+	public String get(final int index) {
+		return this.dictionary.decode(this.codes[index]);
+	}
+
+	/**
+	 * Returns the code of the tag at an index.
+	 *
+	 * @param index the index.
+	 * @return the code of the tag at the index.
+	 */
+	public int getCode(final int index) {
+		return this.codes[index];
+	}
+
+	/**
+	 * Returns whether the list contains the tag with a code.
+	 *
+	 * @param code the code of the tag in the dictionary.
+	 * @return true if the list contains the tag.
+	 */
+	public boolean containsCode(final int code) {
+		for (int element : this.codes) {
+			if (element == code) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		if (!(o instanceof String tag)) {
+			return false;
+		}
+		final int code = this.dictionary.indexOf(tag);
+		return code >= 0 && containsCode(code);
+	}
+
+	@Override
+	public int size() {
+		return this.codes.length;
+	}
+
+	/**
+	 * Returns a copy of the codes of the tags.
+	 *
+	 * @return the codes of the tags.
+	 */
+	public int[] toCodeArray() {
+		return this.codes.clone();
+	}
+
+	@Serial
+	private Object writeReplace() {
+		return new ArrayList<>(this);
+	}
+}
@@ -0,0 +1,111 @@
+package org.wattpad4j.util;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of ints backed by an array of primitive ints, like the categories of a story read with a
+ * {@link TagDictionary}. It is equal to any list of the same Integers, and {@link #getInt(int)} and
+ * {@link #contains(int)} read the array without boxing.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final int[] values;
+
+	/**
+	 * Create an IntList of a copy of the given values.
+	 *
+	 * @param values the values.
+	 * @return the IntList.
+	 */
+	public static IntList of(final int... values) {
+		return new IntList(values.clone());
+	}
+
+	/**
+	 * Create an IntList of the values of a collection, leaving out null values. An IntList is returned as is.
+	 *
+	 * @param values the values.
+	 * @return the IntList.
+	 */
+	public static IntList copyOf(final Collection<Integer> values) {
+		if (values instanceof IntList list) {
+			return list;
+		}
+		return new IntList(values.stream().filter(Objects::nonNull).mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * Create an IntList of the given array, which must not be modified anymore.
+	 */
+	IntList(final int[] values) {
+		this.values = values;
+	}
+
+	@Override
+	public Integer get(final int index) {
+		return getInt(index);
+	}
+
+	/**
+	 * Returns the value at an index, without boxing it.
+	 *
+	 * @param index the index.
+	 * @return the value at the index.
+	 */
+	public int getInt(final int index) {
+		return this.values[index];
+	}
+
+	/**
+	 * Returns whether the list contains a value, without boxing it.
+	 *
+	 * @param value the value.
+	 * @return true if the list contains the value.
+	 */
+	public boolean contains(final int value) {
+		for (int element : this.values) {
+			if (element == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return o instanceof Integer value && contains(value.intValue());
+	}
+
+	@Override
+	public int size() {
+		return this.values.length;
+	}
+
+	/**
+	 * Returns a copy of the values.
+	 *
+	 * @return the values.
+	 */
+	public int[] toIntArray() {
+		return this.values.clone();
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.values);
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		return o instanceof IntList other ? Arrays.equals(this.values, other.values) : super.equals(o);
+	}
+}
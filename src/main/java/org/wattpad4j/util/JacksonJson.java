@@ -1,10 +1,14 @@
 package org.wattpad4j.util;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.jersey.jackson.internal.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import org.wattpad4j.models.WattpadLanguage;
+import org.wattpad4j.models.WattpadShortUser;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonSetter;
@@ -15,6 +19,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import jakarta.ws.rs.Produces;
@@ -50,6 +55,11 @@ public class JacksonJson extends JacksonJaxbJsonProvider implements ContextResol
 		objectMapper.configure(DeserializationFeature.READ_ENUMS_USING_TO_STRING, true);
 
 		objectMapper.registerModule(new JavaTimeModule());
+		// registered after the JavaTimeModule, so it takes precedence for ZonedDateTime
+		objectMapper.registerModule(new SimpleModule("Wattpad")
+		        .addDeserializer(ZonedDateTime.class, new WattpadDateTimeDeserializer())
+		        .setDeserializerModifier(new CanonicalDeserializer.Modifier(
+		                Set.of(WattpadShortUser.class, WattpadLanguage.class))));
 
 		setMapper(objectMapper);
 	}
@@ -0,0 +1,85 @@
+package org.wattpad4j.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of the tags of stories and lists, assigning every distinct tag a code. While a response is read with a
+ * TagDictionary, tags are stored as {@link EncodedTags}, an array of codes into the dictionary, and categories as an
+ * {@link IntList}, an array of primitive ints, instead of lists of objects.
+ * <p>
+ * Codes are assigned in the order the tags are first read, starting at 0, and never change. The dictionary only grows,
+ * so it should be shared by all the responses of a crawl. It is safe to share between threads.
+ */
+public class TagDictionary {
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+	private volatile String[] tags = new String[INITIAL_CAPACITY];
+	private int size;
+
+	/**
+	 * Returns the code of a tag, adding the tag to the dictionary if it is not in it yet.
+	 *
+	 * @param tag the tag.
+	 * @return the code of the tag.
+	 */
+	public int encode(final String tag) {
+		final Integer code = this.codes.get(tag);
+		return code != null ? code : add(tag);
+	}
+
+	private synchronized int add(final String tag) {
+		final Integer code = this.codes.get(tag);
+		if (code != null) {
+			return code;
+		}
+		String[] grown = this.tags;
+		if (this.size == grown.length) {
+			grown = Arrays.copyOf(grown, grown.length * 2);
+		}
+		grown[this.size] = tag;
+		// publishes the tag before its code can be seen
+		this.tags = grown;
+		this.codes.put(tag, this.size);
+		return this.size++;
+	}
+
+	/**
+	 * Returns the code of a tag, without adding it to the dictionary.
+	 *
+	 * @param tag the tag.
+	 * @return the code of the tag, or -1 if the tag was never read.
+	 */
+	public int indexOf(final String tag) {
+		final Integer code = this.codes.get(tag);
+		return code == null ? -1 : code;
+	}
+
+	/**
+	 * Returns the tag with a code.
+	 *
+	 * @param code the code of the tag.
+	 * @return the tag.
+	 * @throws IndexOutOfBoundsException if no tag has the code.
+	 */
+	public String decode(final int code) {
+		final String[] snapshot = this.tags;
+		final String tag = code >= 0 && code < snapshot.length ? snapshot[code] : null;
+		if (tag == null) {
+			throw new IndexOutOfBoundsException("No tag with code " + code);
+		}
+		return tag;
+	}
+
+	/**
+	 * Returns the amount of tags in the dictionary.
+	 *
+	 * @return the amount of tags.
+	 */
+	public int size() {
+		return this.codes.size();
+	}
+}
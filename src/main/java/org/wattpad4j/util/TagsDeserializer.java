@@ -0,0 +1,70 @@
+package org.wattpad4j.util;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+
+/**
+ * Deserializer of the tags of stories and lists. When the response is read with a {@link TagDictionary}, the tags are
+ * read as {@link EncodedTags}; otherwise they are read as an {@link ArrayList}, with their canonical instances when the
+ * response is read with a {@link Canonicalizer}.
+ */
+public class TagsDeserializer extends StdDeserializer<List<String>> {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final CanonicalStringDeserializer TAG = new CanonicalStringDeserializer();
+
+	/**
+	 * Create a TagsDeserializer.
+	 */
+	public TagsDeserializer() {
+		super(TypeFactory.defaultInstance().constructCollectionType(List.class, String.class));
+	}
+
+	@Override
+	public List<String> deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+		if (!parser.isExpectedStartArrayToken()) {
+			@SuppressWarnings("unchecked")
+			final List<String> unexpected = (List<String>) context.handleUnexpectedToken(getValueType(context), parser);
+			return unexpected;
+		}
+		final List<String> tags = new ArrayList<>();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			tags.add(parser.currentToken() == JsonToken.VALUE_NULL ? null : TAG.deserialize(parser, context));
+		}
+		return encode(context, tags);
+	}
+
+	@Override
+	public AccessPattern getEmptyAccessPattern() {
+		return AccessPattern.DYNAMIC;
+	}
+
+	@Override
+	public Object getEmptyValue(final DeserializationContext context) {
+		return encode(context, new ArrayList<>());
+	}
+
+	/**
+	 * Encodes the tags with the TagDictionary the response is read with, if any and if none of the tags is null.
+	 */
+	private static List<String> encode(final DeserializationContext context, final List<String> tags) {
+		if (!(context.getAttribute(TagDictionary.class) instanceof TagDictionary dictionary) || tags.contains(null)) {
+			return tags;
+		}
+		final int[] codes = new int[tags.size()];
+		Arrays.setAll(codes, i -> dictionary.encode(tags.get(i)));
+		return new EncodedTags(dictionary, codes);
+	}
+}
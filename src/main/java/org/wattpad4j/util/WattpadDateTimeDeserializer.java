@@ -0,0 +1,130 @@
+package org.wattpad4j.util;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+/**
+ * Deserializer of the timestamps Wattpad returns, like {@code 2020-10-16T14:40:18Z}, into a {@link ZonedDateTime}.
+ * <p>
+ * Timestamps in exactly that format are parsed by hand instead of by a {@code DateTimeFormatter}, and the most recent
+ * ones are kept in a small cache, since many stories and parts share their timestamps. Any other value is left to the
+ * deserializer of the {@code JavaTimeModule}. Either way the result is the same, including the adjustment to the time
+ * zone of the context.
+ */
+public class WattpadDateTimeDeserializer extends StdScalarDeserializer<ZonedDateTime> {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	// yyyy-MM-ddTHH:mm:ssZ
+	private static final int LENGTH = 20;
+	private static final int CACHE_SIZE = 512;
+
+	private final JsonDeserializer<ZonedDateTime> fallback;
+	private final Entry[] cache = new Entry[CACHE_SIZE];
+
+	/**
+	 * Create a WattpadDateTimeDeserializer falling back to the deserializer of the {@code JavaTimeModule}.
+	 */
+	public WattpadDateTimeDeserializer() {
+		this(InstantDeserializer.ZONED_DATE_TIME);
+	}
+
+	/**
+	 * Create a WattpadDateTimeDeserializer with a custom fallback for the values that are not a Wattpad timestamp.
+	 *
+	 * @param fallback the deserializer of the other values.
+	 */
+	public WattpadDateTimeDeserializer(final JsonDeserializer<ZonedDateTime> fallback) {
+		super(ZonedDateTime.class);
+		this.fallback = fallback;
+	}
+
+	@Override
+	public ZonedDateTime deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_STRING) {
+			final String text = parser.getText();
+			final ZoneId zone = context.isEnabled(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+			        ? context.getTimeZone().toZoneId().normalized()
+			        : ZoneOffset.UTC;
+			final int index = text.hashCode() & (CACHE_SIZE - 1);
+			final Entry cached = this.cache[index];
+			if (cached != null && cached.text().equals(text) && cached.zone().equals(zone)) {
+				return cached.value();
+			}
+			final ZonedDateTime value = parse(text, zone);
+			if (value != null) {
+				this.cache[index] = new Entry(text, zone, value);
+				return value;
+			}
+		}
+		return this.fallback.deserialize(parser, context);
+	}
+
+	/**
+	 * Parses a timestamp in the format Wattpad returns.
+	 *
+	 * @param text the timestamp.
+	 * @param zone the time zone of the result.
+	 * @return the timestamp in the time zone, or null if the text is not in the format Wattpad returns.
+	 */
+	static ZonedDateTime parse(final String text, final ZoneId zone) {
+		if (text.length() != LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+		        || text.charAt(13) != ':' || text.charAt(16) != ':' || text.charAt(19) != 'Z') {
+			return null;
+		}
+		final int year = digits(text, 0, 4);
+		final int month = digits(text, 5, 2);
+		final int day = digits(text, 8, 2);
+		final int hour = digits(text, 11, 2);
+		final int minute = digits(text, 14, 2);
+		final int second = digits(text, 17, 2);
+		if ((year | month | day | hour | minute | second) < 0) {
+			return null;
+		}
+		try {
+			return ZonedDateTime.ofInstant(LocalDateTime.of(year, month, day, hour, minute, second), ZoneOffset.UTC,
+			        zone);
+		} catch (DateTimeException e) {
+			// out of range, let the fallback report it
+			return null;
+		}
+	}
+
+	/**
+	 * Parses a run of decimal digits.
+	 *
+	 * @return the value, or -1 if one of the characters is not a digit.
+	 */
+	private static int digits(final String text, final int start, final int length) {
+		int value = 0;
+		for (int i = start; i < start + length; i++) {
+			final int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * A parsed timestamp in the cache.
+	 */
+	private record Entry(String text, ZoneId zone, ZonedDateTime value) implements Serializable {
+	}
+}
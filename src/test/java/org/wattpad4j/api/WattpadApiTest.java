@@ -1,23 +1,90 @@
 package org.wattpad4j.api;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
+import org.glassfish.jersey.client.ClientProperties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.wattpad4j.api.Projection.ListField;
+import org.wattpad4j.api.Projection.PartField;
+import org.wattpad4j.api.Projection.StoryField;
+import org.wattpad4j.api.Projection.UserField;
+import org.wattpad4j.models.Absent;
+import org.wattpad4j.models.CompactStory;
+import org.wattpad4j.models.StoryTable;
+import org.wattpad4j.models.WattpadList;
+import org.wattpad4j.models.WattpadLanguage;
 import org.wattpad4j.models.WattpadLists;
 import org.wattpad4j.models.WattpadStories;
+import org.wattpad4j.models.WattpadStory;
 import org.wattpad4j.models.WattpadUser;
+import org.wattpad4j.util.Canonicalizer;
+import org.wattpad4j.util.EncodedTags;
+import org.wattpad4j.util.IntList;
+import org.wattpad4j.util.JacksonJson;
+import org.wattpad4j.util.TagDictionary;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.CompletionStageRxInvoker;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 
 public class WattpadApiTest {
@@ -27,6 +94,7 @@ public class WattpadApiTest {
 	private static final WebTarget target = Mockito.mock(WebTarget.class);
 	private static final Invocation.Builder builder = Mockito.mock(Invocation.Builder.class);
 	private static final Response response = Mockito.mock(Response.class);
+	private static final CompletionStageRxInvoker rxInvoker = Mockito.mock(CompletionStageRxInvoker.class);
 
 	@BeforeAll
 	public static void setup() {
@@ -38,6 +106,101 @@ public class WattpadApiTest {
 		Mockito.when(builder.accept(Mockito.anyString())).thenReturn(builder);
 		Mockito.when(builder.header(Mockito.anyString(), Mockito.anyString())).thenReturn(builder);
 		Mockito.when(builder.get()).thenReturn(response);
+		Mockito.when(builder.rx()).thenReturn(rxInvoker);
+		Mockito.when(rxInvoker.get()).thenAnswer(invocation -> CompletableFuture.completedFuture(response));
+	}
+
+	/**
+	 * Creates a WattpadApi whose responses depend on the requested offset, so pages can be fetched in any order.
+	 *
+	 * @param pagesByOffset the file to respond with per offset.
+	 * @return a WattpadApi serving the pages.
+	 */
+	private static WattpadApi pagedApi(final Map<Integer, String> pagesByOffset) {
+		Client pagedClient = Mockito.mock(Client.class);
+		WebTarget pagedTarget = Mockito.mock(WebTarget.class);
+		Mockito.when(pagedClient.target(Mockito.anyString())).thenReturn(pagedTarget);
+		Mockito.when(pagedTarget.queryParam(Mockito.anyString(), Mockito.any())).thenReturn(pagedTarget);
+		pagesByOffset.forEach((offset, file) -> {
+			WebTarget pageTarget = Mockito.mock(WebTarget.class);
+			Invocation.Builder pageBuilder = Mockito.mock(Invocation.Builder.class);
+			Response pageResponse = Mockito.mock(Response.class);
+			Mockito.when(pagedTarget.queryParam(WattpadConstants.OFFSET, offset.toString())).thenReturn(pageTarget);
+			Mockito.when(pageTarget.queryParam(Mockito.anyString(), Mockito.any())).thenReturn(pageTarget);
+			Mockito.when(pageTarget.request()).thenReturn(pageBuilder);
+			Mockito.when(pageBuilder.accept(Mockito.anyString())).thenReturn(pageBuilder);
+			Mockito.when(pageBuilder.header(Mockito.anyString(), Mockito.anyString())).thenReturn(pageBuilder);
+			Mockito.when(pageBuilder.property(Mockito.anyString(), Mockito.any())).thenReturn(pageBuilder);
+			Mockito.when(pageBuilder.get()).thenReturn(pageResponse);
+			CompletionStageRxInvoker pageRxInvoker = Mockito.mock(CompletionStageRxInvoker.class);
+			Mockito.when(pageBuilder.rx()).thenReturn(pageRxInvoker);
+			Mockito.when(pageRxInvoker.get())
+			        .thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> pageResponse));
+			boolean error = file.endsWith("error.json");
+			Mockito.when(pageResponse.getStatus()).thenReturn(
+			        error ? Response.Status.BAD_REQUEST.getStatusCode() : Response.Status.OK.getStatusCode());
+			Mockito.when(pageResponse.getEntity()).thenAnswer(invocation -> new FileInputStream(file));
+		});
+
+		WattpadApi api = new WattpadApi();
+		api.setApiClient(pagedClient);
+		return api;
+	}
+
+	/**
+	 * Creates a Transport serving 90 stories with the ids 0 to 89, honouring at most 30 stories per page.
+	 *
+	 * @param requests the list to add the query parameters of every request to.
+	 * @return the Transport serving the stories.
+	 */
+	private static Transport storiesTransport(final List<Map<String, String>> requests) throws Exception {
+		Transport transport = Mockito.mock(Transport.class);
+		Mockito.when(transport.get(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(call -> {
+			Map<String, String> queryParams = Map.copyOf(call.getArgument(1));
+			requests.add(queryParams);
+			return storiesPage(queryParams);
+		});
+		return transport;
+	}
+
+	/**
+	 * Creates the response of a page of the 90 stories served by {@link #storiesTransport(List)}.
+	 *
+	 * @param queryParams the query parameters of the request.
+	 * @return the response with the page.
+	 */
+	private static TransportResponse storiesPage(final Map<String, String> queryParams) {
+		int offset = Integer.parseInt(queryParams.get(WattpadConstants.OFFSET));
+		int limit = Math.min(Integer.parseInt(queryParams.get(WattpadConstants.LIMIT)), 30);
+		String stories = IntStream.range(offset, Math.min(offset + limit, 90))
+		        .mapToObj(id -> "{\"id\":\"" + id + "\"}")
+		        .collect(Collectors.joining(","));
+		String nextUrl = offset + limit >= 90 ? ""
+		        : ",\"nextUrl\":\"https://www.wattpad.com/v4/users/User/stories/published?offset="
+		                + (offset + limit) + "&limit=" + limit + "\"";
+		String body = "{\"stories\":[" + stories + "],\"total\":90" + nextUrl + "}";
+		TransportResponse page = Mockito.mock(TransportResponse.class);
+		Mockito.when(page.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.when(page.getBody()).thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+		return page;
+	}
+
+	@Test
+	void testConnectionPoolConfig() {
+		ConnectionPoolConfig defaults = ConnectionPoolConfig.defaults();
+		Assertions.assertEquals(WattpadConstants.DEFAULT_MAX_CONNECTIONS, defaults.getMaxTotal());
+		Assertions.assertEquals(WattpadConstants.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, defaults.getMaxPerRoute());
+		Assertions.assertEquals(WattpadConstants.DEFAULT_KEEP_ALIVE, defaults.getKeepAlive());
+		Assertions.assertEquals(WattpadConstants.DEFAULT_CONNECT_TIMEOUT, defaults.getConnectTimeout());
+		Assertions.assertEquals(WattpadConstants.DEFAULT_READ_TIMEOUT, defaults.getReadTimeout());
+
+		ConnectionPoolConfig custom = ConnectionPoolConfig.builder().maxTotal(4).maxPerRoute(2)
+		        .idleEviction(Duration.ofSeconds(5)).readTimeout(Duration.ofSeconds(2)).build();
+		Assertions.assertEquals(4, custom.getMaxTotal());
+		Assertions.assertEquals(2, custom.getMaxPerRoute());
+		Assertions.assertEquals(WattpadConstants.DEFAULT_CONNECTION_TIME_TO_LIVE, custom.getTimeToLive());
+		Assertions.assertEquals(Duration.ofSeconds(2), custom.getReadTimeout());
+		Assertions.assertDoesNotThrow(() -> new WattpadApi(custom).close());
 	}
 
 	@Test
@@ -190,6 +353,615 @@ public class WattpadApiTest {
 		Assertions.assertFalse(wattpadStories.hasNext());
 	}
 
+	@Test
+	public void testStoriesConcurrentAll() throws WattpadApiException {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		WattpadStories sequential = api.getStories("User", 1).all();
+		WattpadStories concurrent = api.getStories("User", 1).all(3);
+		Assertions.assertEquals(sequential, concurrent);
+		Assertions.assertEquals(List.of("1", "2", "3"),
+		        concurrent.getStories().stream().map(WattpadStory::getId).toList());
+		Assertions.assertNull(concurrent.getNextUrl());
+
+		WattpadApi listsApi = pagedApi(Map.of(
+		        0, "src/test/resources/lists/per_one_page/lists_first.json",
+		        1, "src/test/resources/lists/per_one_page/lists_second.json",
+		        2, "src/test/resources/lists/per_one_page/lists_third.json"));
+		listsApi.setPageConcurrency(2);
+		WattpadLists lists = listsApi.getLists("User", (String) null);
+		Assertions.assertEquals(3, lists.getLists().size());
+		Assertions.assertEquals(3, listsApi.streamLists("User").count());
+	}
+
+	@Test
+	public void testStoriesConcurrentAllFailure() {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/error.json"));
+		api.setPageConcurrency(2);
+
+		Assertions.assertThrows(WattpadApiException.class, () -> api.getStories("User", (String) null));
+	}
+
+	@Test
+	public void testAccumulateThousandStories() {
+		List<WattpadStories> pages = IntStream.range(0, 40)
+		        .mapToObj(page -> new WattpadStories(IntStream.range(page * 25, (page + 1) * 25)
+		                .mapToObj(id -> {
+			                WattpadStory story = new WattpadStory();
+			                story.setId(Integer.toString(id));
+			                return story;
+		                }).toList(), 1000, null))
+		        .toList();
+
+		WattpadStories all = pages.getFirst().accumulator();
+		pages.stream().skip(1).forEach(all::append);
+		Assertions.assertEquals(1000, all.getStories().size());
+		Assertions.assertEquals("999", all.getStories().getLast().getId());
+		// the pages themselves are left untouched
+		Assertions.assertEquals(25, pages.getFirst().getStories().size());
+		Assertions.assertEquals(pages.stream().reduce(pages.getFirst(), WattpadStories::merge), all);
+
+		// the reported total is not trusted to allocate the list
+		WattpadStories huge = new WattpadStories(pages.getFirst().getStories(), Integer.MAX_VALUE, null).accumulator();
+		huge.append(pages.getLast());
+		Assertions.assertEquals(50, huge.getStories().size());
+		Assertions.assertTrue(new WattpadLists(List.of(), Integer.MAX_VALUE, null).accumulator().getLists().isEmpty());
+	}
+
+	@Test
+	public void testListsAllKeepsPageOrder() throws WattpadApiException {
+		WattpadLists lists = pagedApi(Map.of(
+		        0, "src/test/resources/lists/per_one_page/lists_first.json",
+		        1, "src/test/resources/lists/per_one_page/lists_second.json",
+		        2, "src/test/resources/lists/per_one_page/lists_third.json")).getLists("User", 1).all();
+		Assertions.assertEquals(List.of(1, 2, 3), lists.getLists().stream().map(WattpadList::getId).toList());
+		Assertions.assertNull(lists.getNextUrl());
+	}
+
+	@Test
+	public void testStoriesStream() throws WattpadApiException {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		Assertions.assertEquals(List.of("1", "2", "3"), api.streamStories("User").map(WattpadStory::getId).toList());
+
+		Pager<WattpadStories> pager = api.getStories("User", 1);
+		Spliterator<WattpadStory> stories = pager.stream(WattpadStories::getStories).spliterator();
+		Assertions.assertFalse(stories.hasCharacteristics(Spliterator.SIZED));
+		Assertions.assertEquals(3, stories.estimateSize());
+		Assertions.assertTrue(stories.tryAdvance(story -> Assertions.assertEquals("1", story.getId())));
+		Assertions.assertEquals(2, stories.estimateSize());
+		Assertions.assertFalse(pager.stream().spliterator().hasCharacteristics(Spliterator.SIZED));
+		Assertions.assertEquals(2, pager.stream().count());
+		Assertions.assertFalse(pager.hasNext());
+
+		Assertions.assertEquals(3, api.getStories("User", 1).stream().mapToInt(WattpadStories::getTotal).count());
+	}
+
+	@Test
+	public void testStoriesStreamTotalMismatch() throws Exception {
+		// every page holds 2 stories while Wattpad reports a total of 3, e.g. after a story was added while paging
+		Transport transport = Mockito.mock(Transport.class);
+		Mockito.when(transport.get(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(call -> {
+			byte[] body = "{\"stories\":[{\"id\":\"1\"},{\"id\":\"2\"}],\"total\":3}"
+			        .getBytes(StandardCharsets.UTF_8);
+			TransportResponse page = Mockito.mock(TransportResponse.class);
+			Mockito.when(page.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+			Mockito.when(page.getBody()).thenReturn(new ByteArrayInputStream(body));
+			return page;
+		});
+		try (WattpadApi api = new WattpadApi(transport)) {
+			Assertions.assertEquals(4, api.getStories("User", 2).stream(WattpadStories::getStories).toList().size());
+			Assertions.assertEquals(4, api.getStories("User", 2).stream(WattpadStories::getStories).count());
+			Assertions.assertEquals(4,
+			        api.getStories("User", 2).stream(WattpadStories::getStories).toArray().length);
+		}
+	}
+
+	@Test
+	public void testForEachStory() throws WattpadApiException {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		List<WattpadStory> stories = new ArrayList<>();
+		Assertions.assertEquals(3, api.forEachStory("User", stories::add));
+		Assertions.assertEquals(api.getStories("User").getStories(), stories);
+
+		// the stories before the failing page are already handed to the action
+		WattpadApi failingApi = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/error.json"));
+		List<String> ids = new ArrayList<>();
+		Assertions.assertThrows(WattpadApiException.class,
+		        () -> failingApi.forEachStory("User", story -> ids.add(story.getId()), "id"));
+		Assertions.assertEquals(List.of("1"), ids);
+	}
+
+	@Test
+	public void testDateTimeDeserializer() throws IOException {
+		ObjectMapper reference = new ObjectMapper().registerModule(new JavaTimeModule());
+		for (String timestamp : List.of("\"2020-10-16T14:40:18Z\"", "\"2024-02-29T23:59:59Z\"",
+		        "\"2020-10-16T14:40:18.123Z\"", "\"2020-10-16T16:40:18+02:00\"", "1602859218")) {
+			Assertions.assertEquals(reference.readValue(timestamp, ZonedDateTime.class),
+			        JacksonJson.mapper.readValue(timestamp, ZonedDateTime.class), timestamp);
+		}
+		// also when adjusted to another time zone of the context
+		TimeZone timeZone = TimeZone.getTimeZone("Europe/Amsterdam");
+		ObjectMapper amsterdam = new JacksonJson().getObjectMapper().setTimeZone(timeZone);
+		reference.setTimeZone(timeZone);
+		Assertions.assertEquals(reference.readValue("\"2020-10-16T14:40:18Z\"", ZonedDateTime.class),
+		        amsterdam.readValue("\"2020-10-16T14:40:18Z\"", ZonedDateTime.class));
+		reference.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+		// repeated timestamps are served from the cache
+		Assertions.assertSame(JacksonJson.mapper.readValue("\"2020-10-16T14:40:18Z\"", ZonedDateTime.class),
+		        JacksonJson.mapper.readValue("\"2020-10-16T14:40:18Z\"", ZonedDateTime.class));
+		Assertions.assertThrows(IOException.class,
+		        () -> JacksonJson.mapper.readValue("\"2020-13-40T14:40:18Z\"", ZonedDateTime.class));
+
+		// the whole models are the same as with the JavaTimeModule alone
+		reference.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		File stories = new File("src/test/resources/stories/stories_all.json");
+		Assertions.assertEquals(reference.readValue(stories, WattpadStories.class),
+		        JacksonJson.mapper.readValue(stories, WattpadStories.class));
+	}
+
+	@Test
+	public void testCompactStory() throws IOException, WattpadApiException {
+		File file = new File("src/test/resources/stories/stories_all.json");
+		List<WattpadStory> stories = JacksonJson.mapper.readValue(file, WattpadStories.class).getStories();
+		JsonNode json = JacksonJson.mapper.readTree(file).get("stories");
+		for (int i = 0; i < stories.size(); i++) {
+			WattpadStory story = stories.get(i);
+			CompactStory compact = JacksonJson.mapper.treeToValue(json.get(i), CompactStory.class);
+			Assertions.assertEquals(CompactStory.of(story), compact);
+			Assertions.assertEquals(story.getId(), compact.id());
+			Assertions.assertEquals(story.getVoteCount(), compact.voteCount());
+			Assertions.assertEquals(story.getCreateDate().toInstant(), Absent.instant(compact.createDate()));
+			Assertions.assertEquals(story.getLanguage().getId(), compact.languageId());
+			Assertions.assertEquals(story.getParts().size(), compact.parts().size());
+			Assertions.assertEquals(story.getParts().getFirst().getReadCount(), compact.parts().getFirst().readCount());
+		}
+
+		// absent numbers and timestamps hold sentinels instead of null
+		CompactStory empty = JacksonJson.mapper.readValue("{\"id\":\"1\"}", CompactStory.class);
+		Assertions.assertEquals(Absent.NUMBER, empty.voteCount());
+		Assertions.assertEquals(Absent.TIMESTAMP, empty.createDate());
+		Assertions.assertNull(Absent.instant(empty.createDate()));
+		Assertions.assertEquals(List.of(), empty.parts());
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> empty.tags().add("tag"));
+		Assertions.assertEquals(0, empty.categories().size());
+
+		// null tags and categories are left out instead of failing the story
+		String withNulls = "{\"id\":\"1\",\"tags\":[\"a\",null],\"categories\":[1,null,2]}";
+		CompactStory nulls = JacksonJson.mapper.readValue(withNulls, CompactStory.class);
+		Assertions.assertEquals(List.of("a"), nulls.tags());
+		Assertions.assertEquals(IntList.of(1, 2), nulls.categories());
+		Assertions.assertEquals(2, nulls.categories().getInt(1));
+
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+		List<CompactStory> compactStories = new ArrayList<>();
+		Assertions.assertEquals(3, api.forEachStory("User", CompactStory.class, compactStories::add));
+		Assertions.assertEquals(api.getStories("User").getStories().stream().map(CompactStory::of).toList(),
+		        compactStories);
+	}
+
+	@Test
+	public void testCanonicalizer() throws WattpadApiException {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+		List<WattpadStory> distinct = api.getStories("User").getStories();
+		Assertions.assertEquals(distinct.get(0).getUser(), distinct.get(1).getUser());
+		Assertions.assertNotSame(distinct.get(0).getUser(), distinct.get(1).getUser());
+
+		Canonicalizer canonicalizer = new Canonicalizer();
+		api.setCanonicalizer(canonicalizer);
+		List<WattpadStory> stories = api.getStories("User").getStories();
+		Assertions.assertEquals(distinct, stories);
+		Assertions.assertSame(stories.get(0).getUser(), stories.get(1).getUser());
+		Assertions.assertSame(stories.get(0).getLanguage(), stories.get(2).getLanguage());
+		Assertions.assertSame(stories.get(0).getTags().getFirst(), stories.get(1).getTags().getFirst());
+		Assertions.assertTrue(canonicalizer.getHits() > 0);
+
+		// a full pool returns new values as read
+		Canonicalizer full = new Canonicalizer(1);
+		String tag = full.canonical(new String("tag"));
+		Assertions.assertSame(tag, full.canonical(new String("tag")));
+		String other = new String("other");
+		Assertions.assertSame(other, full.canonical(other));
+		Assertions.assertEquals(1, full.size());
+	}
+
+	@Test
+	public void testTagDictionary() throws Exception {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+		List<WattpadStory> boxed = api.getStories("User").getStories();
+		Assertions.assertInstanceOf(ArrayList.class, boxed.getFirst().getTags());
+
+		TagDictionary dictionary = new TagDictionary();
+		api.setTagDictionary(dictionary);
+		List<WattpadStory> stories = api.getStories("User").getStories();
+		Assertions.assertEquals(boxed, stories);
+		Assertions.assertEquals(boxed.hashCode(), stories.hashCode());
+
+		EncodedTags tags = Assertions.assertInstanceOf(EncodedTags.class, stories.getFirst().getTags());
+		Assertions.assertEquals(List.of("tag1", "tag2"), tags);
+		Assertions.assertEquals(dictionary.indexOf("tag2"), tags.getCode(1));
+		Assertions.assertTrue(tags.containsCode(dictionary.indexOf("tag1")));
+		Assertions.assertFalse(tags.contains("tag3"));
+		Assertions.assertEquals(-1, dictionary.indexOf("tag3"));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> tags.add("tag3"));
+
+		IntList categories = Assertions.assertInstanceOf(IntList.class, stories.getFirst().getCategories());
+		Assertions.assertTrue(categories.contains(0));
+		Assertions.assertEquals(0, categories.getInt(0));
+
+		// encoded tags are serialized as plain lists
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(stories.getFirst());
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			Assertions.assertEquals(stories.getFirst(), in.readObject());
+		}
+	}
+
+	@Test
+	public void testStoryTable() throws WattpadApiException {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+		StoryTable table = new StoryTable();
+		api.forEachStory("User", table::add);
+		WattpadStory dutch = new WattpadStory();
+		dutch.setId("4");
+		dutch.setVoteCount(7);
+		dutch.setLanguage(new WattpadLanguage(2L, "Nederlands"));
+		table.add(dutch);
+
+		Assertions.assertEquals(4, table.size());
+		Assertions.assertEquals(2, table.getLanguageCount());
+		Assertions.assertEquals(1, table.getLanguageCode(2));
+		Assertions.assertEquals("Nederlands", table.getLanguageOf(1).getName());
+		Assertions.assertEquals("User", table.getAuthorOf(table.getAuthor(0)));
+		Assertions.assertEquals(-1, table.getAuthor(3));
+		Assertions.assertEquals(Absent.NUMBER, table.getReadCount(3));
+		Assertions.assertEquals(ZonedDateTime.parse("2020-10-16T14:40:18Z").toInstant().toEpochMilli(),
+		        table.getCreateDate(0));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getId(4));
+
+		// absent values are skipped
+		Assertions.assertEquals(15, table.summarize(table.rows().parallel(), table::getReadCount).getSum());
+		Assertions.assertEquals(3, table.filter(row -> table.getLanguage(row) == 0).count());
+
+		LongSummaryStatistics[] votes = table.groupBy(table.rows().parallel(), table::getLanguage,
+		        table.getLanguageCount(), table::getVoteCount);
+		LongSummaryStatistics[] sequential = table.groupBy(table.rows(), table::getLanguage,
+		        table.getLanguageCount(), table::getVoteCount);
+		Assertions.assertEquals(sequential[0].toString(), votes[0].toString());
+		Assertions.assertEquals(3, votes[0].getCount());
+		Assertions.assertEquals(7, votes[1].getSum());
+	}
+
+	@Test
+	public void testProjection() throws Exception {
+		Projection<StoryField> projection = Projection.of(StoryField.MODIFY_DATE, StoryField.ID)
+		        .with(StoryField.parts(PartField.MODIFY_DATE, PartField.ID))
+		        .with(StoryField.user(UserField.NAME));
+		Assertions.assertEquals("id,modifyDate,user(name),parts(id,modifyDate)", projection.getFields());
+		Assertions.assertEquals("stories(id,modifyDate,user(name),parts(id,modifyDate)),total,nextUrl",
+		        projection.query("stories"));
+		Assertions.assertSame(projection.query("stories"), projection.query("stories"));
+		Assertions.assertEquals(String.join(",", WattpadConstants.STORY_ALL_FIELDS),
+		        Projection.all(StoryField.class).getFields());
+		Assertions.assertEquals("id,user(name,verified)",
+		        Projection.of(ListField.ID).with(ListField.user(UserField.NAME, UserField.VERIFIED)).getFields());
+
+		TransportResponse response = Mockito.mock(TransportResponse.class);
+		Mockito.when(response.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.when(response.getBody()).thenAnswer(
+		        invocation -> new FileInputStream("src/test/resources/stories/per_one_page/stories_third.json"));
+		Transport transport = Mockito.mock(Transport.class);
+		Mockito.when(transport.get(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(response);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<String, String>> queryParams = ArgumentCaptor.forClass(Map.class);
+		try (WattpadApi api = new WattpadApi(transport)) {
+			Assertions.assertEquals(3, api.getStoriesProjected("User", projection).getStories().size());
+			Mockito.verify(transport, Mockito.times(3)).get(Mockito.any(), queryParams.capture(), Mockito.any(),
+			        Mockito.any());
+			Assertions.assertEquals(projection.query("stories"),
+			        queryParams.getAllValues().getFirst().get(WattpadConstants.FIELDS));
+
+			// without a projection, all fields are retrieved
+			Mockito.clearInvocations(transport);
+			api.getStoriesProjected("User", 1, null);
+			Mockito.verify(transport).get(Mockito.any(), queryParams.capture(), Mockito.any(), Mockito.any());
+			Assertions.assertEquals(
+			        WattpadConstants.FIELDS_FUNCTION.apply("stories", WattpadConstants.STORY_ALL_FIELDS),
+			        queryParams.getValue().get(WattpadConstants.FIELDS));
+
+			// null fields are not ambiguous with a projection
+			Assertions.assertNotNull(api.getStories("User", 1, null));
+			Assertions.assertNotNull(api.getLists("User", 1, null));
+		}
+	}
+
+	@Test
+	public void testAdaptivePaging() throws Exception {
+		List<Map<String, String>> requests = new CopyOnWriteArrayList<>();
+		Transport transport = storiesTransport(requests);
+		List<String> ids = IntStream.range(0, 90).mapToObj(Integer::toString).toList();
+		Function<WattpadStories, List<String>> storyIds = stories -> stories.getStories().stream()
+		        .map(WattpadStory::getId)
+		        .toList();
+
+		try (WattpadApi api = new WattpadApi(transport)) {
+			Assertions.assertEquals(ids, storyIds.apply(api.getStories("User")));
+			Assertions.assertEquals(4, requests.size());
+
+			// the probe learns the honoured limit, so 3 pages of 30 are fetched instead of 4 pages of 25
+			requests.clear();
+			AdaptivePaging paging = new AdaptivePaging();
+			api.setAdaptivePaging(paging);
+			Assertions.assertEquals(ids, storyIds.apply(api.getStories("User")));
+			Assertions.assertEquals(30, paging.getHonouredLimit(WattpadStories.class));
+			Assertions.assertEquals(3, requests.size());
+			Assertions.assertEquals("100", requests.getFirst().get(WattpadConstants.LIMIT));
+
+			// later calls request the honoured limit right away, also while following the nextUrls
+			requests.clear();
+			Assertions.assertEquals(ids, api.streamStories("User").map(WattpadStory::getId).toList());
+			Assertions.assertEquals(3, requests.size());
+			Assertions.assertTrue(requests.stream().allMatch(page -> "30".equals(page.get(WattpadConstants.LIMIT))));
+
+			requests.clear();
+			Assertions.assertEquals(90, api.forEachStory("User", story -> {
+			}));
+			Assertions.assertEquals(3, requests.size());
+
+			// pages are made smaller to stay under the maximum page size
+			requests.clear();
+			api.setAdaptivePaging(new AdaptivePaging(100, 200));
+			Assertions.assertEquals(ids, storyIds.apply(api.getStories("User")));
+			Assertions.assertTrue(requests.stream().skip(1)
+			        .allMatch(page -> Integer.parseInt(page.get(WattpadConstants.LIMIT)) < 30));
+		}
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptivePaging(0, 1));
+	}
+
+	@Test
+	public void testPagerCursor() throws Exception {
+		List<Map<String, String>> requests = new CopyOnWriteArrayList<>();
+		Function<WattpadStories, List<String>> storyIds = stories -> stories.getStories().stream()
+		        .map(WattpadStory::getId)
+		        .toList();
+
+		try (WattpadApi api = new WattpadApi(storiesTransport(requests))) {
+			Pager<WattpadStories> pager = api.getStories("User", 20, "id");
+			Assertions.assertEquals(5, pager.getTotalPages());
+
+			// a page is fetched from its offset, without fetching the pages before it
+			Assertions.assertEquals(IntStream.range(60, 80).mapToObj(Integer::toString).toList(),
+			        storyIds.apply(pager.page(4)));
+			Assertions.assertEquals(2, requests.size());
+			Assertions.assertEquals("60", requests.getLast().get(WattpadConstants.OFFSET));
+			Assertions.assertEquals(List.of("80", "81"), storyIds.apply(pager.next()).subList(0, 2));
+			Assertions.assertFalse(pager.hasNext());
+			Assertions.assertEquals("0", storyIds.apply(pager.page(1)).getFirst());
+			Assertions.assertEquals("20", storyIds.apply(pager.next()).getFirst());
+			Assertions.assertThrows(NoSuchElementException.class, () -> pager.page(6));
+
+			// the cursor is saved and the crawl resumed after the second page
+			PagerCursor<WattpadStories> cursor = pager.getCursor();
+			Assertions.assertEquals(List.of("v4", "users", "User", "stories", "published"), cursor.pathArgs());
+			Assertions.assertEquals(40, cursor.offset());
+			Assertions.assertEquals(20, cursor.limit());
+			Assertions.assertEquals(90, cursor.total());
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(cursor);
+			}
+			@SuppressWarnings("unchecked")
+			PagerCursor<WattpadStories> saved = (PagerCursor<WattpadStories>) new ObjectInputStream(
+			        new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+			Pager<WattpadStories> resumed = new Pager<>(api, saved);
+			Assertions.assertEquals(3, resumed.getTotalPages());
+			Assertions.assertEquals(IntStream.range(40, 90).mapToObj(Integer::toString).toList(),
+			        resumed.stream(WattpadStories::getStories).map(WattpadStory::getId).toList());
+			Assertions.assertTrue(resumed.getCursor().isDone());
+			Assertions.assertEquals(50, storyIds.apply(new Pager<>(api, saved).all()).size());
+		}
+	}
+
+	@Test
+	public void testPagerNextAsyncInFlight() throws Exception {
+		List<Map<String, String>> requests = new CopyOnWriteArrayList<>();
+		Transport transport = storiesTransport(requests);
+		CompletableFuture<TransportResponse> second = new CompletableFuture<>();
+		Mockito.when(transport.getAsync(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		        .thenReturn(second);
+
+		try (WattpadApi api = new WattpadApi(transport)) {
+			Pager<WattpadStories> pager = api.getStories("User", 20, "id");
+			Assertions.assertEquals("0", pager.nextAsync().get().getStories().getFirst().getId());
+			CompletableFuture<WattpadStories> inFlight = pager.nextAsync();
+
+			// the claimed page is not handed out yet, so the cursor points to it and the page is fetched again
+			Assertions.assertEquals(20, pager.getCursor().offset());
+			Assertions.assertEquals("20", pager.page(2).getStories().getFirst().getId());
+			Assertions.assertEquals(40, pager.getCursor().offset());
+
+			second.complete(transport.get(null, Pager.pageQueryParams(20, 20, "id"), null, null));
+			Assertions.assertEquals("20", inFlight.get().getStories().getFirst().getId());
+			Assertions.assertEquals("20", pager.page(2).getStories().getFirst().getId());
+			Assertions.assertEquals(40, pager.getCursor().offset());
+		}
+	}
+
+	@Test
+	public void testStoriesPagerReadAhead() throws WattpadApiException {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		try (Pager<WattpadStories> pager = api.getStories("User", 1)) {
+			pager.setReadAhead(2);
+			List<String> ids = new ArrayList<>();
+			while (pager.hasNext()) {
+				ids.add(pager.next().getStories().getFirst().getId());
+			}
+			Assertions.assertEquals(List.of("1", "2", "3"), ids);
+			Assertions.assertThrows(NoSuchElementException.class, pager::next);
+		}
+
+		// closing cancels reading ahead, but the pager keeps working
+		Pager<WattpadStories> pager = api.getStories("User", 1);
+		pager.setReadAhead(1);
+		Assertions.assertEquals("1", pager.next().getStories().getFirst().getId());
+		pager.close();
+		Assertions.assertEquals("2", pager.next().getStories().getFirst().getId());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> pager.setReadAhead(-1));
+	}
+
+	@Test
+	public void testStoriesPagerReadAheadFailure() throws WattpadApiException {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/error.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		try (Pager<WattpadStories> pager = api.getStories("User", 1)) {
+			pager.setReadAhead(2);
+			Assertions.assertEquals("1", pager.next().getStories().getFirst().getId());
+			// the error surfaces at the call returning the failing page
+			RuntimeException error = Assertions.assertThrows(RuntimeException.class, pager::next);
+			Assertions.assertInstanceOf(WattpadApiException.class, error.getCause());
+			Assertions.assertTrue(pager.hasNext());
+		}
+	}
+
+	@Test
+	public void testStoriesPagerDeadline() throws Exception {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		// the deadline covers all the pages, so the time spent after the first page is not given back
+		Deadline deadline = Deadline.after(Duration.ofMillis(200));
+		Pager<WattpadStories> pager = api.getStories("User", 1, deadline);
+		Assertions.assertSame(deadline, pager.getDeadline());
+		Assertions.assertEquals("1", pager.next().getStories().getFirst().getId());
+		Thread.sleep(250);
+		Assertions.assertTrue(deadline.isExpired());
+		Assertions.assertEquals(Duration.ZERO, deadline.remaining());
+		RuntimeException error = Assertions.assertThrows(RuntimeException.class, pager::next);
+		Assertions.assertInstanceOf(WattpadTimeoutException.class, error.getCause());
+
+		// a new deadline lets the pager continue
+		pager.setDeadline(Deadline.after(Duration.ofMinutes(1)));
+		Assertions.assertEquals("2", pager.next().getStories().getFirst().getId());
+
+		api.setCallTimeout(Duration.ZERO);
+		Assertions.assertThrows(WattpadTimeoutException.class, () -> api.getStories("User", 1));
+		Assertions.assertInstanceOf(WattpadTimeoutException.class,
+		        Assertions.assertThrows(ExecutionException.class, () -> api.getStoriesAsync("User").get()).getCause());
+		api.setCallTimeout(Duration.ofMinutes(1));
+		Assertions.assertEquals(3, api.getStories("User").getStories().size());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ofSeconds(-1)));
+	}
+
+	@Test
+	public void testStoriesAsync() throws Exception {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/stories/per_one_page/stories_second.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		WattpadStories sequential = api.getStories("User", 1).all();
+		Assertions.assertEquals(sequential, api.getStoriesAsync("User", 1).thenCompose(Pager::allAsync).get());
+		Assertions.assertEquals(sequential, api.getStoriesAsync("User", 1).get().allAsync(2).get());
+		api.setPageConcurrency(3);
+		Assertions.assertEquals(3, api.getStoriesAsync("User").get().getStories().size());
+
+		Pager<WattpadStories> pager = api.getStoriesAsync("User", 1).get();
+		Assertions.assertEquals("1", pager.nextAsync().get().getStories().getFirst().getId());
+		CompletableFuture<WattpadStories> second = pager.nextAsync();
+		CompletableFuture<WattpadStories> third = pager.nextAsync();
+		Assertions.assertEquals("2", second.get().getStories().getFirst().getId());
+		Assertions.assertEquals("3", third.get().getStories().getFirst().getId());
+		ExecutionException noMore = Assertions.assertThrows(ExecutionException.class, () -> pager.nextAsync().get());
+		Assertions.assertInstanceOf(NoSuchElementException.class, noMore.getCause());
+	}
+
+	@Test
+	public void testStoriesAsyncAllPages() throws Exception {
+		// an account without stories has no pages
+		TransportResponse empty = Mockito.mock(TransportResponse.class);
+		Mockito.when(empty.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.when(empty.getBody()).thenAnswer(
+		        call -> new ByteArrayInputStream("{\"stories\":[],\"total\":0}".getBytes(StandardCharsets.UTF_8)));
+		Transport emptyTransport = Mockito.mock(Transport.class);
+		Mockito.when(emptyTransport.getAsync(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		        .thenAnswer(call -> CompletableFuture.completedFuture(empty));
+		try (WattpadApi api = new WattpadApi(emptyTransport)) {
+			Assertions.assertEquals(List.of(), api.getStoriesAsync("User").get().getStories());
+			Assertions.assertEquals(List.of(), api.getStoriesAsync("User", 10).get().allAsync(2).get().getStories());
+		}
+
+		// a pager that moved past the first page fetches it again without blocking
+		List<Map<String, String>> requests = new CopyOnWriteArrayList<>();
+		Transport transport = storiesTransport(requests);
+		Mockito.when(transport.getAsync(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		        .thenAnswer(call -> CompletableFuture.completedFuture(storiesPage(call.getArgument(1))));
+		try (WattpadApi api = new WattpadApi(transport)) {
+			Pager<WattpadStories> pager = api.getStories("User", 30, "id");
+			pager.next();
+			pager.next();
+			requests.clear();
+			List<WattpadStory> stories = pager.allAsync(2).get().getStories();
+			Assertions.assertEquals(90, stories.size());
+			Assertions.assertEquals("0", stories.getFirst().getId());
+			Assertions.assertEquals(List.of(), requests);
+		}
+	}
+
+	@Test
+	public void testStoriesAsyncFailure() {
+		WattpadApi api = pagedApi(Map.of(
+		        0, "src/test/resources/stories/per_one_page/stories_first.json",
+		        1, "src/test/resources/error.json",
+		        2, "src/test/resources/stories/per_one_page/stories_third.json"));
+
+		ExecutionException error = Assertions.assertThrows(ExecutionException.class,
+		        () -> api.getStoriesAsync("User").get());
+		Assertions.assertInstanceOf(WattpadApiException.class, error.getCause());
+		ExecutionException listsError = Assertions.assertThrows(ExecutionException.class,
+		        () -> pagedApi(Map.of(0, "src/test/resources/error.json")).getListsAsync("User").get());
+		Assertions.assertInstanceOf(WattpadApiException.class, listsError.getCause());
+	}
+
 	@Test
 	public void testStoriesUserNotFound() throws IOException {
 		FileInputStream firstStories = new FileInputStream(
@@ -319,6 +1091,622 @@ public class WattpadApiTest {
 		Assertions.assertFalse(wattpadUser.toString().isEmpty());
 	}
 
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testModelEqualityWithoutDns() throws IOException {
+		// URL.equals would resolve both hosts to the loopback address and consider them equal
+		WattpadUser localhost = new WattpadUser();
+		localhost.setAvatar(URI.create("http://localhost/avatar.jpg"));
+		WattpadUser loopback = new WattpadUser();
+		loopback.setAvatar(URI.create("http://127.0.0.1/avatar.jpg"));
+		Assertions.assertNotEquals(localhost, loopback);
+
+		// hosts that cannot be resolved are compared and hashed as text
+		Set<WattpadStories> pages = new HashSet<>();
+		for (int i = 0; i < 2; i++) {
+			WattpadStory story = new WattpadStory();
+			story.setCover(URI.create("https://img.wattpad.invalid/cover/1.jpg"));
+			pages.add(new WattpadStories(List.of(story), 1,
+			        URI.create("https://www.wattpad.invalid/v4/users/User/stories?offset=1")));
+		}
+		Assertions.assertEquals(1, pages.size());
+
+		WattpadUser user = JacksonJson.mapper.readValue(new File("src/test/resources/user/user.json"),
+		        WattpadUser.class);
+		Assertions.assertEquals(user.getAvatar().toURL(), user.getAvatarAsUrl());
+		Assertions.assertFalse(user.toString().contains("AsUrl"));
+		Assertions.assertNull(new WattpadLists().getNextUrlAsUrl());
+	}
+
+	@Test
+	public void testUserAsync() throws Exception {
+		Mockito.when(response.getEntity())
+		        .thenReturn(new FileInputStream(Path.of("src/test/resources/user/user.json").toFile()));
+		Mockito.when(response.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Assertions.assertEquals("username", wattpadApi.getUserAsync("User").get().getUsername());
+
+		Mockito.when(response.getEntity())
+		        .thenReturn(new FileInputStream(Path.of("src/test/resources/error.json").toFile()));
+		Mockito.when(response.getStatus()).thenReturn(Response.Status.BAD_REQUEST.getStatusCode());
+		CompletionException error = Assertions.assertThrows(CompletionException.class,
+		        () -> wattpadApi.getUserAsync("NON-EXISTENT").join());
+		Assertions.assertInstanceOf(WattpadApiException.class, error.getCause());
+	}
+
+	@Test
+	public void testUserCache() throws Exception {
+		Mockito.when(response.getEntity())
+		        .thenAnswer(invocation -> new FileInputStream("src/test/resources/user/user.json"));
+		Mockito.when(response.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.clearInvocations(builder);
+
+		AtomicLong now = new AtomicLong();
+		UserCache cache = new UserCache(Duration.ofMinutes(1), 2, now::get);
+		WattpadApi api = new WattpadApi();
+		api.setApiClient(apiClient);
+		api.setUserCache(cache);
+
+		WattpadUser user = api.getUser("User");
+		Assertions.assertSame(user, api.getUser("User"));
+		Assertions.assertSame(user, api.getUserAsync("User").get());
+		Mockito.verify(builder, Mockito.times(1)).get();
+		Assertions.assertEquals(2, cache.getHits());
+		Assertions.assertEquals(1, cache.getMisses());
+
+		// expired after the ttl
+		now.addAndGet(Duration.ofMinutes(1).toNanos());
+		Assertions.assertNotSame(user, api.getUser("User"));
+		Assertions.assertEquals(2, cache.getMisses());
+		Assertions.assertEquals(1, cache.getEvictions());
+
+		// least recently used is evicted when full
+		api.getUser("Other");
+		api.getUser("Third");
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertEquals(2, cache.getEvictions());
+	}
+
+	@Test
+	public void testUserCacheSingleFlight() throws Exception {
+		UserCache cache = new UserCache(Duration.ofMinutes(1), 10);
+		WattpadUser user = new WattpadUser();
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		UserCache.Loader loader = () -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new WattpadApiException(e);
+			}
+			return user;
+		};
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<WattpadUser> first = executor.submit(() -> cache.get("User", loader));
+			loading.await();
+			List<Future<WattpadUser>> waiting = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				waiting.add(executor.submit(() -> cache.get("User", loader)));
+			}
+			CompletableFuture<WattpadUser> async = cache.getAsync("User",
+			        () -> CompletableFuture.failedFuture(new IllegalStateException("not shared")));
+			release.countDown();
+			Assertions.assertSame(user, first.get());
+			for (Future<WattpadUser> future : waiting) {
+				Assertions.assertSame(user, future.get());
+			}
+			Assertions.assertSame(user, async.get());
+		}
+		Assertions.assertEquals(1, loads.get());
+		Assertions.assertEquals(1, cache.getMisses());
+		Assertions.assertEquals(11, cache.getHits());
+
+		// failures are shared, but not cached
+		WattpadApiException error = new WattpadApiException("failed");
+		CompletableFuture<WattpadUser> failing = new CompletableFuture<>();
+		CompletableFuture<WattpadUser> failed = cache.getAsync("Failing", () -> failing);
+		CompletableFuture<WattpadUser> shared = cache.getAsync("Failing", () -> failing);
+		failing.completeExceptionally(error);
+		Assertions.assertSame(error, Assertions.assertThrows(ExecutionException.class, failed::get).getCause());
+		Assertions.assertSame(error, Assertions.assertThrows(ExecutionException.class, shared::get).getCause());
+		Assertions.assertSame(user, cache.get("Failing", () -> user));
+	}
+
+	@Test
+	public void testRateLimiter() {
+		AtomicLong now = new AtomicLong();
+		RateLimiter limiter = new RateLimiter(10, 1, 2, now::get);
+		Assertions.assertEquals(0, limiter.tryAcquire());
+		Assertions.assertEquals(0, limiter.tryAcquire());
+		Assertions.assertEquals(Duration.ofMillis(100).toNanos(), limiter.tryAcquire());
+		now.addAndGet(Duration.ofMillis(100).toNanos());
+		Assertions.assertEquals(0, limiter.tryAcquire());
+
+		// halved on 429, blocked until Retry-After passed
+		limiter.onResponse(429, "2");
+		Assertions.assertEquals(5, limiter.getRate());
+		Assertions.assertEquals(1, limiter.getThrottled());
+		Assertions.assertEquals(Duration.ofSeconds(2).toNanos(), limiter.tryAcquire());
+		now.addAndGet(Duration.ofSeconds(2).toNanos());
+		Assertions.assertEquals(0, limiter.tryAcquire());
+
+		// never below the minimum rate, recovers additively
+		for (int i = 0; i < 10; i++) {
+			limiter.onResponse(503, null);
+		}
+		Assertions.assertEquals(1, limiter.getRate());
+		limiter.onResponse(200, null);
+		Assertions.assertEquals(1.09, limiter.getRate(), 0.0001);
+		for (int i = 0; i < 200; i++) {
+			limiter.onResponse(200, null);
+		}
+		Assertions.assertEquals(10, limiter.getRate());
+
+		Assertions.assertEquals(Duration.ofSeconds(120), RateLimiter.parseRetryAfter(" 120 "));
+		Assertions.assertEquals(Duration.ZERO, RateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+		Assertions.assertNull(RateLimiter.parseRetryAfter("soon"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new RateLimiter(1, 2, 1));
+	}
+
+	@Test
+	public void testUserRateLimited() throws Exception {
+		Mockito.when(response.getEntity())
+		        .thenAnswer(invocation -> new FileInputStream("src/test/resources/error.json"));
+		Mockito.when(response.getStatus()).thenReturn(429);
+		Mockito.when(response.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn("0");
+
+		RateLimiter limiter = new RateLimiter(100);
+		WattpadApi api = new WattpadApi();
+		api.setApiClient(apiClient);
+		api.setRateLimiter(limiter);
+		Assertions.assertThrows(WattpadApiException.class, () -> api.getUser("User"));
+		Assertions.assertEquals(50, limiter.getRate());
+		ExecutionException error = Assertions.assertThrows(ExecutionException.class,
+		        () -> api.getUserAsync("User").get());
+		Assertions.assertInstanceOf(WattpadApiException.class, error.getCause());
+		Assertions.assertEquals(25, limiter.getRate());
+		Assertions.assertEquals(2, limiter.getThrottled());
+		Mockito.when(response.getHeaderString(HttpHeaders.RETRY_AFTER)).thenReturn(null);
+	}
+
+	@Test
+	public void testRetryPolicy() throws Exception {
+		Invocation.Builder retryBuilder = Mockito.mock(Invocation.Builder.class);
+		WattpadApi api = userApi(retryBuilder);
+		api.setRetryPolicy(RetryPolicy.builder().initialBackoff(Duration.ofMillis(1)).build());
+		Response unavailable = Mockito.mock(Response.class);
+		Mockito.when(unavailable.getStatus()).thenReturn(503);
+		Mockito.when(retryBuilder.get()).thenReturn(unavailable)
+		        .thenThrow(new ProcessingException(new SocketException("Connection reset")))
+		        .thenReturn(userResponse());
+		Assertions.assertEquals("username", api.getUser("User").getUsername());
+		Mockito.verify(retryBuilder, Mockito.times(3)).get();
+		Mockito.verify(unavailable).close();
+
+		// not retryable
+		Response badRequest = Mockito.mock(Response.class);
+		Mockito.when(badRequest.getStatus()).thenReturn(400);
+		Mockito.when(badRequest.getEntity()).thenReturn(new FileInputStream("src/test/resources/error.json"));
+		Mockito.clearInvocations(retryBuilder);
+		Mockito.when(retryBuilder.get()).thenReturn(badRequest);
+		CompletionException error = Assertions.assertThrows(CompletionException.class,
+		        () -> api.getUserAsync("User").join());
+		Assertions.assertEquals(400, Assertions.assertInstanceOf(WattpadApiException.class, error.getCause())
+		        .getHttpStatus());
+		Mockito.verify(retryBuilder, Mockito.times(1)).get();
+
+		// gives up after the max attempts
+		Mockito.clearInvocations(retryBuilder);
+		Mockito.when(retryBuilder.get()).thenThrow(new ProcessingException(new SocketException("Connection reset")));
+		Assertions.assertThrows(WattpadApiException.class, () -> api.getUser("User"));
+		Mockito.verify(retryBuilder, Mockito.times(3)).get();
+	}
+
+	@Test
+	public void testRetryPolicyHedge() throws Exception {
+		Invocation.Builder hedgeBuilder = Mockito.mock(Invocation.Builder.class);
+		WattpadApi api = userApi(hedgeBuilder);
+		api.setRetryPolicy(RetryPolicy.builder().hedgeDelay(Duration.ofMillis(50)).build());
+		Response slow = userResponse();
+		CountDownLatch answered = new CountDownLatch(1);
+		Mockito.when(hedgeBuilder.get()).thenAnswer(invocation -> {
+			answered.await();
+			return slow;
+		}).thenReturn(userResponse());
+
+		Assertions.assertEquals("username", api.getUser("User").getUsername());
+		Mockito.verify(hedgeBuilder, Mockito.times(2)).get();
+		answered.countDown();
+		Mockito.verify(slow, Mockito.timeout(1000)).close();
+	}
+
+	@Test
+	public void testRetryPolicyBackoff() {
+		RetryPolicy policy = RetryPolicy.builder().initialBackoff(Duration.ofMillis(100))
+		        .maxBackoff(Duration.ofMillis(300)).build();
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertTrue(policy.backoff(1).compareTo(Duration.ofMillis(50)) >= 0);
+			Assertions.assertTrue(policy.backoff(1).compareTo(Duration.ofMillis(100)) <= 0);
+			Assertions.assertTrue(policy.backoff(2).compareTo(Duration.ofMillis(100)) >= 0);
+			Assertions.assertTrue(policy.backoff(5).compareTo(Duration.ofMillis(300)) <= 0);
+		}
+		Assertions.assertTrue(policy.isRetryable(new ProcessingException(new SocketTimeoutException())));
+		Assertions.assertFalse(policy.isRetryable(new IllegalStateException()));
+		Assertions.assertTrue(policy.isRetryable(429));
+		Assertions.assertFalse(policy.isRetryable(404));
+	}
+
+	@Test
+	public void testCircuitBreaker() throws Exception {
+		AtomicLong now = new AtomicLong();
+		CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerConfig.builder().windowSize(4).minimumCalls(4)
+		        .halfOpenTrials(2).openDuration(Duration.ofSeconds(30)).build(), now::get);
+		List<String> transitions = new ArrayList<>();
+		breaker.addListener((from, to) -> transitions.add(from + "->" + to));
+
+		breaker.onResult(breaker.acquire(), 0, false);
+		breaker.onResult(breaker.acquire(), 0, true);
+		breaker.onResult(breaker.acquire(), 0, false);
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		long late = breaker.acquire();
+		breaker.onResult(breaker.acquire(), 0, true);
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Assertions.assertEquals(0.5, breaker.getFailureRate());
+		Assertions.assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+		// calls permitted before opening are not recorded
+		breaker.onResult(late, 0, false);
+
+		now.addAndGet(Duration.ofSeconds(30).toNanos());
+		long first = breaker.acquire();
+		long second = breaker.acquire();
+		Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		Assertions.assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+		breaker.onResult(first, 0, false);
+		breaker.onResult(second, 0, false);
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		Assertions.assertEquals(0, breaker.getFailureRate());
+
+		// slow calls open the circuit too, a failing trial opens it again
+		for (int i = 0; i < 4; i++) {
+			breaker.onResult(breaker.acquire(), Duration.ofSeconds(10).toNanos(), false);
+		}
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		now.addAndGet(Duration.ofSeconds(30).toNanos());
+		breaker.onResult(breaker.acquire(), 0, true);
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Assertions.assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED", "CLOSED->OPEN",
+		        "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions);
+	}
+
+	@Test
+	public void testUserCircuitBreaker() throws Exception {
+		Invocation.Builder breakerBuilder = Mockito.mock(Invocation.Builder.class);
+		WattpadApi api = userApi(breakerBuilder);
+		api.setCircuitBreaker(
+		        new CircuitBreaker(CircuitBreakerConfig.builder().windowSize(2).minimumCalls(2).build()));
+		Response unavailable = Mockito.mock(Response.class);
+		Mockito.when(unavailable.getStatus()).thenReturn(503);
+		Mockito.when(unavailable.getEntity())
+		        .thenAnswer(invocation -> new FileInputStream("src/test/resources/error.json"));
+		Mockito.when(breakerBuilder.get()).thenReturn(unavailable);
+
+		Assertions.assertEquals(503,
+		        Assertions.assertThrows(WattpadApiException.class, () -> api.getUser("User")).getHttpStatus());
+		Assertions.assertThrows(WattpadApiException.class, () -> api.getUser("User"));
+		Assertions.assertThrows(CircuitBreakerOpenException.class, () -> api.getUser("User"));
+		ExecutionException error = Assertions.assertThrows(ExecutionException.class,
+		        () -> api.getUserAsync("User").get());
+		Assertions.assertInstanceOf(CircuitBreakerOpenException.class, error.getCause());
+		Mockito.verify(breakerBuilder, Mockito.times(2)).get();
+	}
+
+	@Test
+	public void testUserTimeout() throws Exception {
+		Invocation.Builder timeoutBuilder = Mockito.mock(Invocation.Builder.class);
+		Mockito.when(timeoutBuilder.get())
+		        .thenThrow(new ProcessingException(new SocketTimeoutException("Read timed out")));
+		WattpadApi api = userApi(timeoutBuilder);
+		api.setCallTimeout(Duration.ofSeconds(5));
+
+		WattpadTimeoutException timeout = Assertions.assertThrows(WattpadTimeoutException.class,
+		        () -> api.getUser("User"));
+		Assertions.assertInstanceOf(ProcessingException.class, timeout.getCause());
+		// the read timeout of the request is shortened to the time left before the deadline
+		Mockito.verify(timeoutBuilder).property(Mockito.eq(ClientProperties.READ_TIMEOUT),
+		        Mockito.intThat(millis -> millis > 0 && millis <= 5000));
+
+		// retries stop once the backoff would run past the deadline
+		api.setRetryPolicy(RetryPolicy.builder().maxAttempts(5).initialBackoff(Duration.ofSeconds(10)).jitter(0)
+		        .build());
+		Assertions.assertThrows(WattpadTimeoutException.class, () -> api.getUser("User"));
+		Mockito.verify(timeoutBuilder, Mockito.times(2)).get();
+	}
+
+	@Test
+	public void testUserCompressed() throws Exception {
+		byte[] json = Files.readAllBytes(Path.of("src/test/resources/user/user.json"));
+		ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+			out.write(json);
+		}
+		ByteArrayOutputStream zlib = new ByteArrayOutputStream();
+		try (DeflaterOutputStream out = new DeflaterOutputStream(zlib)) {
+			out.write(json);
+		}
+		ByteArrayOutputStream raw = new ByteArrayOutputStream();
+		try (DeflaterOutputStream out = new DeflaterOutputStream(raw,
+		        new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+			out.write(json);
+		}
+
+		Invocation.Builder compressedBuilder = Mockito.mock(Invocation.Builder.class);
+		WattpadApi api = userApi(compressedBuilder);
+		Response gzipResponse = compressedResponse(gzip.toByteArray(), "gzip");
+		Response zlibResponse = compressedResponse(zlib.toByteArray(), "deflate");
+		Response rawResponse = compressedResponse(raw.toByteArray(), "deflate");
+		Response identityResponse = compressedResponse(json, null);
+		Mockito.when(compressedBuilder.get()).thenReturn(gzipResponse, zlibResponse, rawResponse, identityResponse);
+		for (int i = 0; i < 4; i++) {
+			Assertions.assertEquals("username", api.getUser("User").getUsername());
+		}
+		Mockito.verify(compressedBuilder, Mockito.times(4)).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+		TransferStatistics statistics = api.getTransferStatistics();
+		Assertions.assertEquals(4, statistics.getResponses());
+		Assertions.assertEquals(3, statistics.getCompressedResponses());
+		Assertions.assertEquals(gzip.size() + zlib.size() + raw.size() + json.length, statistics.getWireBytes());
+		Assertions.assertEquals(4L * json.length, statistics.getDecodedBytes());
+		Assertions.assertTrue(statistics.getSaving() > 0);
+	}
+
+	private static Response compressedResponse(final byte[] body, final String contentEncoding) {
+		Response compressed = Mockito.mock(Response.class);
+		Mockito.when(compressed.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.when(compressed.getEntity()).thenReturn(new ByteArrayInputStream(body));
+		Mockito.when(compressed.getHeaderString(HttpHeaders.CONTENT_ENCODING)).thenReturn(contentEncoding);
+		return compressed;
+	}
+
+	@Test
+	public void testHttpClientTransport() throws Exception {
+		byte[] json = Files.readAllBytes(Path.of("src/test/resources/user/user.json"));
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		List<String> requests = new CopyOnWriteArrayList<>();
+		server.createContext("/", exchange -> {
+			requests.add(exchange.getRequestURI() + " " + exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+			exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+			exchange.sendResponseHeaders(200, 0);
+			try (GZIPOutputStream body = new GZIPOutputStream(exchange.getResponseBody())) {
+				body.write(json);
+			}
+		});
+		server.start();
+		String local = "http://localhost:" + server.getAddress().getPort();
+
+		HttpClientTransport httpClient = new HttpClientTransport();
+		try (WattpadApi api = new WattpadApi(new LocalTransport(httpClient, local))) {
+			Assertions.assertEquals(HttpClient.Version.HTTP_2, httpClient.getVersion());
+			Assertions.assertEquals("username", api.getUser("User").getUsername());
+			Assertions.assertEquals("username", api.getUserAsync("User").get().getUsername());
+			Assertions.assertEquals(2, api.getTransferStatistics().getCompressedResponses());
+		} finally {
+			server.stop(0);
+		}
+		Assertions.assertEquals(List.of("/api/v3/users/User gzip, deflate", "/api/v3/users/User gzip, deflate"),
+		        requests);
+		Map<String, String> queryParams = new LinkedHashMap<>();
+		queryParams.put("fields", "stories(id,title)");
+		queryParams.put("limit", "2");
+		Assertions.assertEquals(URI.create("http://host/path?fields=stories%28id%2Ctitle%29&limit=2"),
+		        HttpClientTransport.uri(URI.create("http://host/path").toURL(), queryParams));
+	}
+
+	@Test
+	public void testHttpClientTransportNextUrl() throws Exception {
+		// Wattpad percent-encodes the query of its nextUrls
+		String fields = "fields=stories%28id%2Ctitle%29%2Ctotal%2CnextUrl";
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		List<String> queries = new CopyOnWriteArrayList<>();
+		server.createContext("/", exchange -> {
+			String query = exchange.getRequestURI().getRawQuery();
+			queries.add(query);
+			String body = query.contains("offset=0")
+			        ? "{\"stories\":[{\"id\":\"0\"}],\"total\":2,\"nextUrl\":\"https://www.wattpad.com/v4/users/User/"
+			                + "stories/published?offset=1&limit=1&" + fields + "\"}"
+			        : "{\"stories\":[{\"id\":\"1\"}],\"total\":2}";
+			byte[] json = body.getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, json.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(json);
+			}
+		});
+		server.start();
+		String local = "http://localhost:" + server.getAddress().getPort();
+
+		try (WattpadApi api = new WattpadApi(new LocalTransport(new HttpClientTransport(), local))) {
+			Assertions.assertEquals(2, api.getStories("User", 1, "id", "title").all().getStories().size());
+		} finally {
+			server.stop(0);
+		}
+		Assertions.assertEquals(2, queries.size());
+		Assertions.assertTrue(queries.stream().allMatch(query -> query.contains(fields)), queries::toString);
+	}
+
+	/**
+	 * Transport that sends the calls for Wattpad to a local server instead.
+	 */
+	private record LocalTransport(Transport transport, String local) implements Transport {
+
+		@Override
+		public TransportResponse get(URL url, Map<String, String> queryParams, Map<String, String> headers,
+		        Duration timeout) throws IOException, InterruptedException {
+			return this.transport.get(local(url), queryParams, headers, timeout);
+		}
+
+		@Override
+		public CompletableFuture<TransportResponse> getAsync(URL url, Map<String, String> queryParams,
+		        Map<String, String> headers, Duration timeout) {
+			try {
+				return this.transport.getAsync(local(url), queryParams, headers, timeout);
+			} catch (IOException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		@Override
+		public void close() {
+			this.transport.close();
+		}
+
+		private URL local(URL url) throws IOException {
+			return URI.create(url.toExternalForm().replace(WattpadConstants.BASE_URL, this.local)).toURL();
+		}
+	}
+
+	private static WattpadApi userApi(final Invocation.Builder userBuilder) {
+		Client userClient = Mockito.mock(Client.class);
+		WebTarget userTarget = Mockito.mock(WebTarget.class);
+		Mockito.when(userClient.target(Mockito.anyString())).thenReturn(userTarget);
+		Mockito.when(userTarget.request()).thenReturn(userBuilder);
+		Mockito.when(userBuilder.accept(Mockito.anyString())).thenReturn(userBuilder);
+		Mockito.when(userBuilder.header(Mockito.anyString(), Mockito.anyString())).thenReturn(userBuilder);
+		Mockito.when(userBuilder.property(Mockito.anyString(), Mockito.any())).thenReturn(userBuilder);
+		WattpadApi api = new WattpadApi();
+		api.setApiClient(userClient);
+		return api;
+	}
+
+	private static Response userResponse() throws IOException {
+		Response userResponse = Mockito.mock(Response.class);
+		Mockito.when(userResponse.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.when(userResponse.getEntity()).thenReturn(new FileInputStream("src/test/resources/user/user.json"));
+		return userResponse;
+	}
+
+	@Test
+	public void testUsersBulk() throws WattpadApiException {
+		Client usersClient = Mockito.mock(Client.class);
+		Mockito.when(usersClient.target(Mockito.anyString())).thenAnswer(invocation -> {
+			boolean notFound = invocation.<String> getArgument(0).endsWith("/NOT_FOUND");
+			// a user read as null cannot be put in the results
+			boolean broken = invocation.<String> getArgument(0).endsWith("/BROKEN");
+			Response userResponse = Mockito.mock(Response.class);
+			Mockito.when(userResponse.getStatus()).thenReturn(
+			        notFound ? Response.Status.BAD_REQUEST.getStatusCode() : Response.Status.OK.getStatusCode());
+			String file = notFound ? "src/test/resources/error.json" : "src/test/resources/user/user.json";
+			Mockito.when(userResponse.getEntity()).thenAnswer(entity -> broken
+			        ? new ByteArrayInputStream("null".getBytes(StandardCharsets.UTF_8))
+			        : new FileInputStream(file));
+			WebTarget userTarget = Mockito.mock(WebTarget.class);
+			Invocation.Builder userBuilder = Mockito.mock(Invocation.Builder.class);
+			Mockito.when(userTarget.request()).thenReturn(userBuilder);
+			Mockito.when(userBuilder.accept(Mockito.anyString())).thenReturn(userBuilder);
+			Mockito.when(userBuilder.header(Mockito.anyString(), Mockito.anyString())).thenReturn(userBuilder);
+			Mockito.when(userBuilder.get()).thenReturn(userResponse);
+			return userTarget;
+		});
+		WattpadApi api = new WattpadApi();
+		api.setApiClient(usersClient);
+
+		List<String> userNames = IntStream.range(0, 50).mapToObj(i -> "User" + i).collect(Collectors.toList());
+		userNames.add(10, "NOT_FOUND");
+		userNames.add(20, "BROKEN");
+		userNames.add("User0");
+		BulkResult<WattpadUser> users = api.getUsers(userNames, 4);
+		Assertions.assertFalse(users.isComplete());
+		Assertions.assertEquals(50, users.getResults().size());
+		Assertions.assertEquals("User0", users.getResults().keySet().iterator().next());
+		Assertions.assertEquals("username", users.getResults().get("User49").getUsername());
+		Assertions.assertEquals(List.of("NOT_FOUND", "BROKEN"), List.copyOf(users.getFailures().keySet()));
+		Assertions.assertInstanceOf(NullPointerException.class, users.getFailures().get("BROKEN").getCause());
+		Mockito.verify(usersClient, Mockito.times(52)).target(Mockito.anyString());
+	}
+
+	@Test
+	public void testUserResponseCache() throws IOException, WattpadApiException {
+		Client cachingClient = Mockito.mock(Client.class);
+		WebTarget cachingTarget = Mockito.mock(WebTarget.class);
+		Invocation.Builder cachingBuilder = Mockito.mock(Invocation.Builder.class);
+		Response ok = Mockito.mock(Response.class);
+		Response notModified = Mockito.mock(Response.class);
+		Mockito.when(cachingClient.target(Mockito.anyString())).thenReturn(cachingTarget);
+		Mockito.when(cachingTarget.request()).thenReturn(cachingBuilder);
+		Mockito.when(cachingBuilder.accept(Mockito.anyString())).thenReturn(cachingBuilder);
+		Mockito.when(cachingBuilder.header(Mockito.anyString(), Mockito.anyString())).thenReturn(cachingBuilder);
+		Mockito.when(cachingBuilder.get()).thenReturn(ok, notModified);
+		Mockito.when(ok.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.when(ok.getHeaderString(HttpHeaders.ETAG)).thenReturn("\"v1\"");
+		Mockito.when(ok.getEntity()).thenReturn(new FileInputStream("src/test/resources/user/user.json"));
+		Mockito.when(notModified.getStatus()).thenReturn(Response.Status.NOT_MODIFIED.getStatusCode());
+
+		WattpadApi api = new WattpadApi();
+		api.setApiClient(cachingClient);
+		ResponseCache cache = new ResponseCache(1024 * 1024);
+		api.setResponseCache(cache);
+
+		WattpadUser first = api.getUser("User");
+		WattpadUser second = api.getUser("User");
+		Assertions.assertSame(first, second);
+		Mockito.verify(cachingBuilder).header(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+		Assertions.assertEquals(1, cache.getHits());
+		Assertions.assertEquals(1, cache.getMisses());
+		Assertions.assertEquals(1, cache.size());
+		Assertions.assertTrue(cache.getBytes() > 0);
+	}
+
+	@Test
+	public void testUserResponseCacheAsync() throws Exception {
+		TransportResponse ok = Mockito.mock(TransportResponse.class);
+		Mockito.when(ok.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+		Mockito.when(ok.getHeader(HttpHeaders.ETAG)).thenReturn("\"v1\"");
+		Mockito.when(ok.getBody()).thenReturn(new FileInputStream("src/test/resources/user/user.json"));
+		TransportResponse notModified = Mockito.mock(TransportResponse.class);
+		Mockito.when(notModified.getStatus()).thenReturn(Response.Status.NOT_MODIFIED.getStatusCode());
+		Transport transport = Mockito.mock(Transport.class);
+		Mockito.when(transport.getAsync(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+		        .thenReturn(CompletableFuture.completedFuture(ok), CompletableFuture.completedFuture(notModified));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<String, String>> headers = ArgumentCaptor.forClass(Map.class);
+
+		try (WattpadApi api = new WattpadApi(transport)) {
+			ResponseCache cache = new ResponseCache(1024 * 1024);
+			api.setResponseCache(cache);
+			WattpadUser first = api.getUserAsync("User").get();
+			WattpadUser second = api.getUserAsync("User").get();
+			Assertions.assertSame(first, second);
+			Mockito.verify(transport, Mockito.times(2)).getAsync(Mockito.any(), Mockito.any(), headers.capture(),
+			        Mockito.any());
+			Assertions.assertEquals("\"v1\"", headers.getAllValues().getLast().get(HttpHeaders.IF_NONE_MATCH));
+			Assertions.assertEquals(1, cache.getHits());
+			Assertions.assertEquals(1, cache.getMisses());
+			Assertions.assertEquals(1, cache.size());
+		}
+	}
+
+	@Test
+	public void testResponseCacheEviction() throws IOException {
+		URL url = URI.create(WattpadConstants.BASE_URL).toURL();
+		Assertions.assertEquals(ResponseCache.key(url, Map.of("a", "1", "b", "2")),
+		        ResponseCache.key(url, new TreeMap<>(Map.of("b", "2", "a", "1")).descendingMap()));
+
+		ResponseCache cache = new ResponseCache(100);
+		cache.put("first", new ResponseCache.Entry("1", null, "first", 40));
+		cache.put("second", new ResponseCache.Entry("2", null, "second", 40));
+		Assertions.assertNotNull(cache.get("first", String.class));
+		Assertions.assertNull(cache.get("first", WattpadUser.class));
+		cache.put("third", new ResponseCache.Entry("3", null, "third", 40));
+		// second was used least recently
+		Assertions.assertNull(cache.get("second", String.class));
+		Assertions.assertNotNull(cache.get("first", String.class));
+		Assertions.assertEquals(80, cache.getBytes());
+		Assertions.assertEquals(1, cache.getEvictions());
+		cache.put("too big", new ResponseCache.Entry("4", null, "too big", 101));
+		Assertions.assertEquals(2, cache.size());
+	}
+
 	@Test
 	public void testUserInvalidJson() throws IOException {
 		FileInputStream user = new FileInputStream(Path.of("src/test/resources/error.json").toFile());